@@ -0,0 +1,57 @@
+package com.example.financialapiapplication.config;
+
+import com.example.financialapiapplication.filter.AdaptiveConcurrencyLimiter;
+import com.example.financialapiapplication.filter.ClientRateLimiter;
+import com.example.financialapiapplication.filter.ConcurrencyLimitFilter;
+import com.example.financialapiapplication.filter.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Registers the admission filters for /api. The rate limit runs first, so a
+ * client over its budget is turned away before it can take a concurrency permit.
+ */
+@Configuration
+@EnableConfigurationProperties(ApiLimitProperties.class)
+public class ApiLimitConfig {
+
+    private static final String API_PATTERN = "/api/*";
+
+    @Bean
+    @ConditionalOnProperty(name = "financial.limits.rate.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(ApiLimitProperties properties, MeterRegistry registry) {
+        ApiLimitProperties.Rate rate = properties.getRate();
+        ClientRateLimiter limiter = new ClientRateLimiter(rate.getTokensPerSecond(), rate.getBurst(), rate.getMaxClients());
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(limiter, rate.getClientHeader(), Set.copyOf(rate.getTrustedProxies()),
+                        rate.getRowsPerToken(), registry));
+        registration.addUrlPatterns(API_PATTERN);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "financial.limits.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ApiLimitProperties properties,
+                                                                                 MeterRegistry registry) {
+        ApiLimitProperties.Concurrency concurrency = properties.getConcurrency();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                concurrency.getInitialLimit(),
+                concurrency.getMinLimit(),
+                concurrency.getMaxLimit(),
+                concurrency.getSmoothing(),
+                concurrency.getTolerance());
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiter, concurrency.getExcludedPaths(), registry));
+        registration.addUrlPatterns(API_PATTERN);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.financialapiapplication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Admission limits for the /api endpoints: an adaptive cap on concurrent requests
+ * and a token-bucket rate per client.
+ */
+@ConfigurationProperties(prefix = "financial.limits")
+public class ApiLimitProperties {
+
+    private Concurrency concurrency = new Concurrency();
+    private Rate rate = new Rate();
+
+    // Getters and Setters
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Concurrency concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Rate getRate() {
+        return rate;
+    }
+
+    public void setRate(Rate rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * Gradient concurrency limit: grows while latency stays near its long-term
+     * baseline and shrinks as requests start queueing.
+     */
+    public static class Concurrency {
+
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+
+        /** Weight of each new limit estimate, between 0 and 1. */
+        private double smoothing = 0.2;
+
+        /** Latency increase over the baseline tolerated before the limit shrinks. */
+        private double tolerance = 1.5;
+
+        /** Long-lived requests (SSE subscriptions) that must not hold a permit. */
+        private List<String> excludedPaths = new ArrayList<>(List.of("/api/transactions/subscribe"));
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public List<String> getExcludedPaths() {
+            return excludedPaths;
+        }
+
+        public void setExcludedPaths(List<String> excludedPaths) {
+            this.excludedPaths = excludedPaths;
+        }
+    }
+
+    /**
+     * Per-client token bucket. Requests cost one token plus one per
+     * {@code rowsPerToken} rows asked for through the {@code limit} parameter.
+     */
+    public static class Rate {
+
+        private boolean enabled = true;
+        private double tokensPerSecond = 50;
+        private int burst = 100;
+        private int rowsPerToken = 100;
+
+        /** Header identifying the caller, honoured only from trusted proxies. */
+        private String clientHeader = "X-Client-Id";
+
+        /** Remote addresses (exact match) of proxies whose client header is trusted. */
+        private List<String> trustedProxies = new ArrayList<>();
+
+        /** Upper bound on tracked clients; idle buckets are dropped first. */
+        private int maxClients = 10_000;
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getTokensPerSecond() {
+            return tokensPerSecond;
+        }
+
+        public void setTokensPerSecond(double tokensPerSecond) {
+            this.tokensPerSecond = tokensPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getRowsPerToken() {
+            return rowsPerToken;
+        }
+
+        public void setRowsPerToken(int rowsPerToken) {
+            this.rowsPerToken = rowsPerToken;
+        }
+
+        public String getClientHeader() {
+            return clientHeader;
+        }
+
+        public void setClientHeader(String clientHeader) {
+            this.clientHeader = clientHeader;
+        }
+
+        public List<String> getTrustedProxies() {
+            return trustedProxies;
+        }
+
+        public void setTrustedProxies(List<String> trustedProxies) {
+            this.trustedProxies = trustedProxies;
+        }
+
+        public int getMaxClients() {
+            return maxClients;
+        }
+
+        public void setMaxClients(int maxClients) {
+            this.maxClients = maxClients;
+        }
+    }
+}
@@ -2,63 +2,80 @@ package com.example.financialapiapplication.config;
 
 import com.example.financialapiapplication.model.FinancialTransaction;
 import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.ShardedTransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * Seeds sample transactions. Only active with the "seed" profile, which is the
+ * default profile, so instances started with an explicit profile list skip it.
+ * Spring AOT evaluates profiles at build time, so an AOT build keeps the profile
+ * decision it was built with; {@code financial.seed.enabled=false} is checked at
+ * runtime and turns seeding off in any build. Seeding is skipped when any shard
+ * already holds data.
+ */
 @Component
+@Profile("seed")
 public class DataInitializer implements CommandLineRunner {
-    
+
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     private final FinancialTransactionRepository repository;
-    
+    private final ShardedTransactionRepository shardedRepository;
+    private final boolean enabled;
+
     @Autowired
-    public DataInitializer(FinancialTransactionRepository repository) {
+    public DataInitializer(FinancialTransactionRepository repository,
+                           ObjectProvider<ShardedTransactionRepository> shardedRepository,
+                           @Value("${financial.seed.enabled:true}") boolean enabled) {
         this.repository = repository;
+        this.shardedRepository = shardedRepository.getIfAvailable();
+        this.enabled = enabled;
     }
-    
+
     @Override
-    public void run(String... args) throws Exception {
-        // Clear existing data
-        repository.deleteAll();
-        
+    public void run(String... args) {
+        if (!enabled) {
+            log.info("Sample data disabled, skipping");
+            return;
+        }
+        boolean empty = shardedRepository != null ? shardedRepository.isEmpty() : repository.count() == 0;
+        if (!empty) {
+            log.info("Transactions already present, skipping sample data");
+            return;
+        }
+
         // Create sample financial transactions
         LocalDateTime now = LocalDateTime.now();
-        
-        FinancialTransaction transaction1 = new FinancialTransaction(
-                "PAY001", "USER001", "PAYMENT_SERVICE", "COMPLETED", 
-                "REF001", new BigDecimal("100.50"), now.minusDays(1)
-        );
-        
-        FinancialTransaction transaction2 = new FinancialTransaction(
-                "PAY002", "USER002", "TRANSFER_SERVICE", "PENDING", 
-                "REF002", new BigDecimal("250.75"), now.minusHours(6)
-        );
-        
-        FinancialTransaction transaction3 = new FinancialTransaction(
-                "PAY003", "USER001", "PAYMENT_SERVICE", "COMPLETED", 
-                "REF003", new BigDecimal("75.25"), now.minusHours(2)
-        );
-        
-        FinancialTransaction transaction4 = new FinancialTransaction(
-                "PAY004", "USER003", "WITHDRAWAL_SERVICE", "FAILED", 
-                "REF004", new BigDecimal("500.00"), now.minusMinutes(30)
-        );
-        
-        FinancialTransaction transaction5 = new FinancialTransaction(
-                "PAY005", "USER002", "TRANSFER_SERVICE", "COMPLETED", 
-                "REF005", new BigDecimal("150.00"), now.minusMinutes(15)
-        );
-        
-        // Save all transactions
-        repository.save(transaction1);
-        repository.save(transaction2);
-        repository.save(transaction3);
-        repository.save(transaction4);
-        repository.save(transaction5);
-        
-        System.out.println("Sample data initialized successfully!");
+        List<FinancialTransaction> transactions = List.of(
+                new FinancialTransaction("PAY001", "USER001", "PAYMENT_SERVICE", "COMPLETED",
+                        "REF001", new BigDecimal("100.50"), now.minusDays(1)),
+                new FinancialTransaction("PAY002", "USER002", "TRANSFER_SERVICE", "PENDING",
+                        "REF002", new BigDecimal("250.75"), now.minusHours(6)),
+                new FinancialTransaction("PAY003", "USER001", "PAYMENT_SERVICE", "COMPLETED",
+                        "REF003", new BigDecimal("75.25"), now.minusHours(2)),
+                new FinancialTransaction("PAY004", "USER003", "WITHDRAWAL_SERVICE", "FAILED",
+                        "REF004", new BigDecimal("500.00"), now.minusMinutes(30)),
+                new FinancialTransaction("PAY005", "USER002", "TRANSFER_SERVICE", "COMPLETED",
+                        "REF005", new BigDecimal("150.00"), now.minusMinutes(15)));
+
+        // Shards are written one by one through the router; the local database in one transaction
+        if (shardedRepository != null) {
+            transactions.forEach(shardedRepository::save);
+        } else {
+            repository.saveAll(transactions);
+        }
+
+        log.atInfo().addKeyValue("count", transactions.size()).log("Sample data initialized");
     }
-} 
\ No newline at end of file
+}
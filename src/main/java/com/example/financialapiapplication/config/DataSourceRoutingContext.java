@@ -0,0 +1,48 @@
+package com.example.financialapiapplication.config;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread routing hints for {@link ReadWriteRoutingDataSource}.
+ * Callers that must see their own writes wrap the read in {@link #readYourWrites(Supplier)},
+ * which sends it to the primary even inside a read-only transaction. Work handed
+ * to another thread keeps the caller's routing through {@link #propagate(Supplier)}.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * Runs the action with every connection routed to the primary.
+     */
+    public static <T> T readYourWrites(Supplier<T> action) {
+        boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_REQUIRED.set(previous);
+        }
+    }
+
+    /**
+     * Wraps the action so it routes like the calling thread when run elsewhere.
+     * Reads issued on behalf of a read-write transaction, or under read-your-writes,
+     * stay on the primary; worker threads do not see the caller's transaction.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> action) {
+        boolean primaryRequired = PRIMARY_REQUIRED.get()
+                || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        return primaryRequired ? () -> readYourWrites(action) : action;
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.financialapiapplication.config;
+
+import com.example.financialapiapplication.diagnostics.RecordingJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Swaps in the JSON converter that reports serialization to Flight Recorder.
+ * Declaring it as the {@link MappingJackson2HttpMessageConverter} bean replaces
+ * Boot's default one, so it keeps the application's {@link ObjectMapper}.
+ */
+@Configuration
+public class DiagnosticsConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new RecordingJsonHttpMessageConverter(objectMapper);
+    }
+}
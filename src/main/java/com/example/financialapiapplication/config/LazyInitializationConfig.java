@@ -0,0 +1,31 @@
+package com.example.financialapiapplication.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Support for the "lazy" profile ({@code spring.main.lazy-initialization=true}).
+ * Lazy beans are created on first injection or lookup, but event listeners and
+ * scheduled jobs are never looked up: they only register once created. Beans
+ * with such methods are therefore kept eager.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasBackgroundMethods(beanType);
+    }
+
+    private static boolean hasBackgroundMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.hasAnnotation(method, EventListener.class)
+                        || AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.financialapiapplication.config;
+
+import com.example.financialapiapplication.repository.PaymentSnapshotRepository;
+import com.example.financialapiapplication.service.PaymentSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Builds the payment snapshot store when {@code financial.snapshots.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "financial.snapshots.enabled", havingValue = "true")
+@EnableConfigurationProperties(PaymentSnapshotProperties.class)
+public class PaymentSnapshotConfig {
+
+    @Bean
+    public PaymentSnapshotStore paymentSnapshotStore(PaymentSnapshotProperties properties,
+                                                     PaymentSnapshotRepository repository,
+                                                     MeterRegistry registry) {
+        return new PaymentSnapshotStore(repository, properties.getTerminalStatuses(), properties.getMaxAge(),
+                properties.getPendingMaxAge(), properties.getMaxPendingWrites(), registry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.financialapiapplication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local payment snapshots and the policy deciding when a snapshot may stand in
+ * for a backend lookup.
+ */
+@ConfigurationProperties(prefix = "financial.snapshots")
+public class PaymentSnapshotProperties {
+
+    private boolean enabled = false;
+
+    /** Statuses a payment never leaves; their snapshots are served until max-age. */
+    private List<String> terminalStatuses = new ArrayList<>(List.of("COMPLETED", "FAILED"));
+
+    /** Age after which any snapshot is stale and the backend is asked again. */
+    private Duration maxAge = Duration.ofHours(24);
+
+    /** Age up to which snapshots of non-terminal payments are served; zero always asks the backend. */
+    private Duration pendingMaxAge = Duration.ZERO;
+
+    /** Payments looked up per sync run. */
+    private int batchSize = 500;
+
+    /** Concurrent backend lookups during a sync run. */
+    private int syncConcurrency = 16;
+
+    /** Backend results from the read path buffered until the next sync run saves them. */
+    private int maxPendingWrites = 10000;
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getTerminalStatuses() {
+        return terminalStatuses;
+    }
+
+    public void setTerminalStatuses(List<String> terminalStatuses) {
+        this.terminalStatuses = terminalStatuses;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public Duration getPendingMaxAge() {
+        return pendingMaxAge;
+    }
+
+    public void setPendingMaxAge(Duration pendingMaxAge) {
+        this.pendingMaxAge = pendingMaxAge;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getSyncConcurrency() {
+        return syncConcurrency;
+    }
+
+    public void setSyncConcurrency(int syncConcurrency) {
+        this.syncConcurrency = syncConcurrency;
+    }
+
+    public int getMaxPendingWrites() {
+        return maxPendingWrites;
+    }
+
+    public void setMaxPendingWrites(int maxPendingWrites) {
+        this.maxPendingWrites = maxPendingWrites;
+    }
+}
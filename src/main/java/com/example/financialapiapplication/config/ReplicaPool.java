@@ -0,0 +1,135 @@
+package com.example.financialapiapplication.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of read replicas with health state and a load-balancing policy.
+ * A replica is used only while its last health check succeeded and its
+ * reported lag was within the configured limit.
+ */
+public class ReplicaPool implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final List<Replica> replicas;
+    private final ReplicaRoutingProperties.LoadBalancing loadBalancing;
+    private final Duration maxLag;
+    private final int checkTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<Replica> replicas, ReplicaRoutingProperties.LoadBalancing loadBalancing,
+                       Duration maxLag, Duration checkTimeout) {
+        this.replicas = List.copyOf(replicas);
+        this.loadBalancing = loadBalancing;
+        this.maxLag = maxLag;
+        this.checkTimeoutSeconds = (int) Math.max(1, checkTimeout.toSeconds());
+    }
+
+    /**
+     * Picks a healthy replica, or returns null when none is usable.
+     */
+    public Replica select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = loadBalancing == ReplicaRoutingProperties.LoadBalancing.RANDOM
+                ? ThreadLocalRandom.current().nextInt(size)
+                : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Probes every replica and updates its health. Called on a fixed schedule.
+     */
+    @Scheduled(fixedDelayString = "${financial.datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(checkTimeoutSeconds) && isWithinLag(replica, connection);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.atWarn()
+                        .addKeyValue("replica", replica.name)
+                        .addKeyValue("healthy", healthy)
+                        .log("Replica {} is now {}", replica.name, healthy ? "in rotation" : "out of rotation");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    private boolean isWithinLag(Replica replica, Connection connection) throws SQLException {
+        if (replica.lagQuery == null) {
+            return true;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(replica.lagQuery)) {
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0d;
+            return lagSeconds * 1000 <= maxLag.toMillis();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * One replica and its last known health.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final String lagQuery;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource, String lagQuery) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.lagQuery = lagQuery;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.financialapiapplication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to database replicas.
+ */
+@ConfigurationProperties(prefix = "financial.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    public enum LoadBalancing {
+        ROUND_ROBIN, RANDOM
+    }
+
+    private boolean enabled;
+    private LoadBalancing loadBalancing = LoadBalancing.ROUND_ROBIN;
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LoadBalancing getLoadBalancing() {
+        return loadBalancing;
+    }
+
+    public void setLoadBalancing(LoadBalancing loadBalancing) {
+        this.loadBalancing = loadBalancing;
+    }
+
+    public Duration getMaxReplicaLag() {
+        return maxReplicaLag;
+    }
+
+    public void setMaxReplicaLag(Duration maxReplicaLag) {
+        this.maxReplicaLag = maxReplicaLag;
+    }
+
+    public Duration getHealthCheckTimeout() {
+        return healthCheckTimeout;
+    }
+
+    public void setHealthCheckTimeout(Duration healthCheckTimeout) {
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * Connection settings for one replica.
+     */
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+
+        /**
+         * Optional query returning the replica's replication lag in seconds,
+         * e.g. {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())} on PostgreSQL.
+         */
+        private String lagQuery;
+
+        // Getters and Setters
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.financialapiapplication.config;
+
+import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.JdbcTransactionShard;
+import com.example.financialapiapplication.repository.JpaTransactionShard;
+import com.example.financialapiapplication.repository.ShardedTransactionRepository;
+import com.example.financialapiapplication.repository.TransactionShard;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the sharded transaction layer when {@code financial.sharding.enabled=true}.
+ * Shard pools are not registered as DataSource beans, which would replace the
+ * application's own datasource; the repository closes them on shutdown, and
+ * they report Hikari metrics and a "shards" health entry instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "financial.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedTransactionRepository shardedTransactionRepository(ShardingProperties properties,
+                                                                     FinancialTransactionRepository repository,
+                                                                     PlatformTransactionManager transactionManager,
+                                                                     ApplicationEventPublisher eventPublisher,
+                                                                     MeterRegistry registry) {
+        List<TransactionShard> shards = new ArrayList<>();
+        shards.add(new JpaTransactionShard(repository, transactionManager));
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName("shard-" + (i + 1));
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            JdbcTransactionShard jdbcShard = new JdbcTransactionShard(dataSource, i + 1, eventPublisher);
+            if (properties.isInitializeSchema()) {
+                jdbcShard.initializeSchema();
+            }
+            shards.add(jdbcShard);
+        }
+        return new ShardedTransactionRepository(shards, properties.getMaxConcurrentQueries());
+    }
+
+    @Bean
+    public HealthContributor shardsHealthContributor(ShardedTransactionRepository shardedTransactionRepository) {
+        Map<String, HealthIndicator> indicators = new LinkedHashMap<>();
+        List<TransactionShard> shards = shardedTransactionRepository.getShards();
+        for (int i = 0; i < shards.size(); i++) {
+            if (shards.get(i) instanceof JdbcTransactionShard jdbcShard) {
+                indicators.put("shard-" + i, new DataSourceHealthIndicator(jdbcShard.getDataSource()));
+            }
+        }
+        return CompositeHealthContributor.fromMap(indicators);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.financialapiapplication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for sharding financial_transactions by userId.
+ * The application's own database is always shard 0; the shards listed here follow it.
+ */
+@ConfigurationProperties(prefix = "financial.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    /** Creates the shard schema on startup; meant for local embedded shards. */
+    private boolean initializeSchema;
+
+    /**
+     * Scatter-gather queries that may run against every shard at once. Each takes
+     * one connection per shard, so keep it at or below the shard pool size.
+     */
+    private int maxConcurrentQueries = 10;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isInitializeSchema() {
+        return initializeSchema;
+    }
+
+    public void setInitializeSchema(boolean initializeSchema) {
+        this.initializeSchema = initializeSchema;
+    }
+
+    public int getMaxConcurrentQueries() {
+        return maxConcurrentQueries;
+    }
+
+    public void setMaxConcurrentQueries(int maxConcurrentQueries) {
+        this.maxConcurrentQueries = maxConcurrentQueries;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Connection settings for one additional shard.
+     */
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+
+        // Getters and Setters
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
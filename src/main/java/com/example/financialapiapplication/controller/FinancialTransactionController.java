@@ -1,25 +1,33 @@
 package com.example.financialapiapplication.controller;
 
 import com.example.financialapiapplication.dto.DataListPaymentResponse;
+import com.example.financialapiapplication.dto.Payment;
 import com.example.financialapiapplication.dto.TransactionFilterRequest;
 import com.example.financialapiapplication.service.FinancialTransactionService;
+import com.example.financialapiapplication.service.TransactionChangeFeed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/transactions")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "${financial.cors.allowed-origins:*}")
 public class FinancialTransactionController {
     
     private final FinancialTransactionService service;
+    private final TransactionChangeFeed changeFeed;
     
     @Autowired
-    public FinancialTransactionController(FinancialTransactionService service) {
+    public FinancialTransactionController(FinancialTransactionService service,
+                                          TransactionChangeFeed changeFeed) {
         this.service = service;
+        this.changeFeed = changeFeed;
     }
     
     @GetMapping
@@ -37,4 +45,31 @@ public class FinancialTransactionController {
                     return Mono.just(ResponseEntity.internalServerError().build());
                 });
     }
+    
+    /**
+     * Streams enriched payments as Server-Sent Events as soon as each one is ready,
+     * followed by a final "links" event.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<?>> streamTransactionsWithFilters(
+            @Valid TransactionFilterRequest request) {
+        
+        return service.streamTransactionsWithFilters(request);
+    }
+    
+    /**
+     * Pushes committed inserts, updates and deletes that match the given filters
+     * as Server-Sent Events named after the change type. Pagination parameters
+     * are ignored. A subscriber that falls behind is disconnected and should
+     * resubscribe and re-read the current page.
+     */
+    @GetMapping(path = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Payment>> subscribeToTransactionChanges(
+            @Valid TransactionFilterRequest request) {
+        
+        return changeFeed.subscribe(request)
+                .map(event -> ServerSentEvent.builder(event.payment())
+                        .event(event.changeType().name().toLowerCase())
+                        .build());
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,216 @@
+package com.example.financialapiapplication.diagnostics;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * On-demand Flight Recorder recording of the request pipeline events, at
+ * {@code /actuator/jfr}. POST starts a recording bounded in duration and size,
+ * GET summarizes it so far and DELETE stops it and returns the final summary.
+ * Only the application's own events are enabled, so a running recording costs
+ * little more than the events themselves. The same events also show up in any
+ * other recording, e.g. one started with {@code -XX:StartFlightRecording}.
+ * Disabled unless {@code financial.jfr.enabled=true}; it should then only be
+ * exposed on a separate {@code management.server.port}.
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(name = "financial.jfr.enabled", havingValue = "true")
+public class JfrEndpoint implements DisposableBean {
+
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            RepositoryQueryEvent.class, PaymentLookupEvent.class, SortMergeEvent.class, SerializationEvent.class);
+
+    /** Fields every event has; the summary lists only the event-specific ones. */
+    private static final Set<String> COMMON_FIELDS = Set.of("startTime", "duration", "eventThread", "stackTrace");
+
+    /** Event fields that identify customer data and are never returned in a summary. */
+    private static final Set<String> SENSITIVE_FIELDS = Set.of("paymentId");
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final int slowestEvents;
+
+    private Recording recording;
+
+    public JfrEndpoint(@Value("${financial.jfr.max-duration:5m}") Duration maxDuration,
+                       @Value("${financial.jfr.max-size:64MB}") DataSize maxSize,
+                       @Value("${financial.jfr.slowest-events:10}") int slowestEvents) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.slowestEvents = slowestEvents;
+    }
+
+    /**
+     * Starts a recording that stops by itself after the given duration, capped at
+     * the configured maximum. A previous recording is discarded.
+     */
+    @WriteOperation
+    public synchronized RecordingSummary start(@Nullable Duration duration) {
+        close();
+        Duration bounded = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        Recording started = new Recording();
+        started.setName("financial-api");
+        for (Class<? extends Event> eventType : EVENT_TYPES) {
+            started.enable(eventType).withThreshold(Duration.ZERO);
+        }
+        started.setDuration(bounded);
+        started.setMaxSize(maxSize.toBytes());
+        started.setToDisk(true);
+        started.start();
+        recording = started;
+        return summarize();
+    }
+
+    @ReadOperation
+    public synchronized RecordingSummary summary() {
+        return summarize();
+    }
+
+    /**
+     * Stops the recording, returns its summary and discards it.
+     */
+    @DeleteOperation
+    public synchronized RecordingSummary stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        RecordingSummary summary = summarize();
+        close();
+        return summary;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private RecordingSummary summarize() {
+        if (recording == null) {
+            return new RecordingSummary("NONE", null, null, Map.of());
+        }
+        if (recording.getState() != RecordingState.RUNNING && recording.getState() != RecordingState.STOPPED) {
+            return new RecordingSummary(recording.getState().name(), recording.getStartTime(),
+                    recording.getDuration(), Map.of());
+        }
+        return new RecordingSummary(recording.getState().name(), recording.getStartTime(),
+                recording.getDuration(), summarizeEvents());
+    }
+
+    /**
+     * Streams the recorded events from a dump, keeping only the slowest few per
+     * event type, so the summary does not hold the whole recording in memory.
+     */
+    private Map<String, EventTypeSummary> summarizeEvents() {
+        Path dump = null;
+        try {
+            dump = Files.createTempFile("financial-api-", ".jfr");
+            recording.dump(dump);
+            Map<String, Accumulator> byType = new HashMap<>();
+            try (RecordingFile file = new RecordingFile(dump)) {
+                while (file.hasMoreEvents()) {
+                    RecordedEvent event = file.readEvent();
+                    byType.computeIfAbsent(event.getEventType().getLabel(), label -> new Accumulator()).add(event);
+                }
+            }
+            Map<String, EventTypeSummary> summaries = new LinkedHashMap<>();
+            byType.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> summaries.put(entry.getKey(), entry.getValue().toSummary()));
+            return summaries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the JFR recording", e);
+        } finally {
+            if (dump != null) {
+                try {
+                    Files.deleteIfExists(dump);
+                } catch (IOException ignored) {
+                    // Temporary file; nothing else to do
+                }
+            }
+        }
+    }
+
+    private final class Accumulator {
+
+        private final PriorityQueue<RecordedEvent> slowest = new PriorityQueue<>(Comparator.comparing(RecordedEvent::getDuration));
+        private long count;
+        private Duration total = Duration.ZERO;
+
+        void add(RecordedEvent event) {
+            count++;
+            total = total.plus(event.getDuration());
+            slowest.add(event);
+            if (slowest.size() > slowestEvents) {
+                slowest.poll();
+            }
+        }
+
+        EventTypeSummary toSummary() {
+            List<SlowEvent> events = new ArrayList<>(slowest.size());
+            for (RecordedEvent event : slowest) {
+                events.add(toSlowEvent(event));
+            }
+            events.sort(Comparator.comparingDouble(SlowEvent::durationMillis).reversed());
+            return new EventTypeSummary(count, toMillis(total), toMillis(total) / count, events);
+        }
+    }
+
+    private static SlowEvent toSlowEvent(RecordedEvent event) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        event.getFields().stream()
+                .filter(field -> !COMMON_FIELDS.contains(field.getName()) && !SENSITIVE_FIELDS.contains(field.getName()))
+                .forEach(field -> fields.put(field.getName(), event.getValue(field.getName())));
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : null;
+        return new SlowEvent(event.getStartTime(), toMillis(event.getDuration()), thread, fields);
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    public record RecordingSummary(String state, Instant startTime, Duration duration,
+                                   Map<String, EventTypeSummary> events) {
+    }
+
+    public record EventTypeSummary(long count, double totalMillis, double averageMillis, List<SlowEvent> slowest) {
+    }
+
+    public record SlowEvent(Instant startTime, double durationMillis, String thread, Map<String, Object> fields) {
+    }
+}
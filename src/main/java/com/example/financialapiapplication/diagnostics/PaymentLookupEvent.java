@@ -0,0 +1,27 @@
+package com.example.financialapiapplication.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One lookup against the payment backend, from subscription to completion.
+ */
+@Name(PaymentLookupEvent.NAME)
+@Label("Payment Lookup")
+@Category({"Financial API", "Payments"})
+@Description("Payment backend call for the backend-owned payment fields")
+@StackTrace(false)
+public class PaymentLookupEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.financialapiapplication.PaymentLookup";
+
+    @Label("Payment Id")
+    public String paymentId;
+
+    @Label("Outcome")
+    @Description("found, empty, error or cancelled")
+    public String outcome;
+}
@@ -0,0 +1,69 @@
+package com.example.financialapiapplication.diagnostics;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.StringJoiner;
+
+/**
+ * One transaction page query, from whichever store answered it.
+ */
+@Name(RepositoryQueryEvent.NAME)
+@Label("Repository Query")
+@Category({"Financial API", "Transactions"})
+@Description("Transaction page query with its filters and result size")
+@StackTrace(false)
+public class RepositoryQueryEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.financialapiapplication.RepositoryQuery";
+
+    @Label("Source")
+    @Description("Store that answered: hot-index, archive, shards or database")
+    public String source;
+
+    @Label("Filters")
+    @Description("Names of the filter parameters set on the request; values are left out")
+    public String filters;
+
+    @Label("Sort")
+    public String sort;
+
+    @Label("Offset")
+    public long offset;
+
+    @Label("Limit")
+    public int limit;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Total Rows")
+    public long totalRows;
+
+    /**
+     * Names of the filters set on the request, e.g. {@code "dateFrom,status"}.
+     */
+    public static String filterNames(TransactionFilterRequest request) {
+        StringJoiner names = new StringJoiner(",");
+        addIfSet(names, "dateFrom", request.getDateFrom());
+        addIfSet(names, "dateTo", request.getDateTo());
+        addIfSet(names, "userId", request.getUserId());
+        addIfSet(names, "service", request.getService());
+        addIfSet(names, "status", request.getStatus());
+        addIfSet(names, "reference", request.getReference());
+        addIfSet(names, "referencePrefix", request.getReferencePrefix());
+        addIfSet(names, "referenceContains", request.getReferenceContains());
+        addIfSet(names, "paymentIdContains", request.getPaymentIdContains());
+        return names.toString();
+    }
+
+    private static void addIfSet(StringJoiner names, String name, Object value) {
+        if (value != null) {
+            names.add(name);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.financialapiapplication.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Writing one response body, or one server-sent event, as JSON.
+ */
+@Name(SerializationEvent.NAME)
+@Label("JSON Serialization")
+@Category({"Financial API", "Web"})
+@Description("Response body written as JSON")
+@StackTrace(false)
+public class SerializationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.financialapiapplication.Serialization";
+
+    @Label("Type")
+    public String type;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
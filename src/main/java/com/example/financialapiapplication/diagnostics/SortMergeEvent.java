@@ -0,0 +1,48 @@
+package com.example.financialapiapplication.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * In-process sorting and merging of rows from several stores.
+ */
+@Name(SortMergeEvent.NAME)
+@Label("Sort and Merge")
+@Category({"Financial API", "Transactions"})
+@Description("Rows sorted or merged in the application rather than the database")
+@StackTrace(false)
+public class SortMergeEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.financialapiapplication.SortMerge";
+
+    @Label("Source")
+    @Description("shards or archive")
+    public String source;
+
+    @Label("Sort")
+    public String sort;
+
+    @Label("Input Rows")
+    public long inputRows;
+
+    @Label("Output Rows")
+    public int outputRows;
+
+    /**
+     * Ends the event and commits it if a recording wants it; the fields are only
+     * set in that case.
+     */
+    public void finish(String source, String sort, long inputRows, int outputRows) {
+        end();
+        if (shouldCommit()) {
+            this.source = source;
+            this.sort = sort;
+            this.inputRows = inputRows;
+            this.outputRows = outputRows;
+            commit();
+        }
+    }
+}
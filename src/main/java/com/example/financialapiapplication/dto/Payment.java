@@ -1,97 +1,103 @@
 package com.example.financialapiapplication.dto;
 
+import com.example.financialapiapplication.model.CompactValues;
+import com.example.financialapiapplication.model.ServiceCode;
+import com.example.financialapiapplication.model.StatusCode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
 
-public class Payment {
-    
-    private String id;
-    private String userId;
-    private String service;
-    private String status;
-    private String reference;
-    private BigDecimal amount;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-    
-    // Default constructor
-    public Payment() {}
-    
-    // Constructor with all fields
-    public Payment(String id, String userId, String service, String status, 
-                   String reference, BigDecimal amount, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        this.id = id;
-        this.userId = userId;
-        this.service = service;
-        this.status = status;
-        this.reference = reference;
-        this.amount = amount;
-        this.createdAt = createdAt;
-        this.updatedAt = updatedAt;
-    }
-    
-    // Getters and Setters
-    public String getId() {
-        return id;
-    }
-    
-    public void setId(String id) {
-        this.id = id;
-    }
-    
-    public String getUserId() {
-        return userId;
-    }
-    
-    public void setUserId(String userId) {
-        this.userId = userId;
-    }
-    
-    public String getService() {
-        return service;
-    }
-    
-    public void setService(String service) {
-        this.service = service;
-    }
-    
-    public String getStatus() {
-        return status;
-    }
-    
-    public void setStatus(String status) {
-        this.status = status;
-    }
-    
-    public String getReference() {
-        return reference;
-    }
-    
-    public void setReference(String reference) {
-        this.reference = reference;
+/**
+ * Immutable payment view returned to API clients.
+ * Transaction data comes from the database; the payment backend is only
+ * authoritative for the fields carried by {@link PaymentEnrichment}.
+ *
+ * <p>Large pages hold many of these, so the state is kept compact: service and
+ * status are interned codes, the amount is a long in minor units with its scale,
+ * and timestamps are epoch microseconds (see {@link CompactValues}). Amounts too
+ * large for minor units are kept in {@code largeAmount} instead. The accessors
+ * {@link #service()}, {@link #amount()}, {@link #createdAt()} etc. decode on demand,
+ * and the JSON form is unchanged.
+ */
+@JsonSerialize(using = PaymentJsonSerializer.class)
+@JsonDeserialize(using = PaymentJsonDeserializer.class)
+public record Payment(String id,
+                      String userId,
+                      ServiceCode serviceCode,
+                      StatusCode statusCode,
+                      String reference,
+                      long amountMinor,
+                      int amountScale,
+                      BigDecimal largeAmount,
+                      long createdAtMicros,
+                      long updatedAtMicros) {
+
+    /** Orders by amount, absent amounts last, without decoding to BigDecimal unless one is large. */
+    public static final Comparator<Payment> BY_AMOUNT = (a, b) -> a.largeAmount == null && b.largeAmount == null
+            ? CompactValues.compareAmounts(a.amountMinor, a.amountScale, b.amountMinor, b.amountScale)
+            : Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()).compare(a.amount(), b.amount());
+
+    /** Orders by creation time, absent timestamps last. */
+    public static final Comparator<Payment> BY_CREATED_AT = (a, b) -> CompactValues.compareTimestamps(
+            a.createdAtMicros, b.createdAtMicros);
+
+    /** Orders by last update time, absent timestamps last. */
+    public static final Comparator<Payment> BY_UPDATED_AT = (a, b) -> CompactValues.compareTimestamps(
+            a.updatedAtMicros, b.updatedAtMicros);
+
+    public Payment(String id, String userId, String service, String status, String reference,
+                   BigDecimal amount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, ServiceCode.of(service), StatusCode.of(status), reference, amount, createdAt, updatedAt);
     }
-    
-    public BigDecimal getAmount() {
-        return amount;
+
+    /**
+     * Constructor used by JPQL constructor expressions, where the entity already
+     * holds the interned codes.
+     */
+    public Payment(String id, String userId, ServiceCode service, StatusCode status, String reference,
+                   BigDecimal amount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, service, status, reference,
+                CompactValues.toMinorUnits(amount), CompactValues.toScale(amount),
+                CompactValues.fitsMinorUnits(amount) ? null : amount,
+                CompactValues.toEpochMicros(createdAt), CompactValues.toEpochMicros(updatedAt));
     }
-    
-    public void setAmount(BigDecimal amount) {
-        this.amount = amount;
+
+    public String service() {
+        return serviceCode != null ? serviceCode.value() : null;
     }
-    
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
+
+    public String status() {
+        return statusCode != null ? statusCode.value() : null;
     }
-    
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
+
+    public BigDecimal amount() {
+        return largeAmount != null ? largeAmount : CompactValues.toAmount(amountMinor, amountScale);
     }
-    
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
+
+    public LocalDateTime createdAt() {
+        return CompactValues.toLocalDateTime(createdAtMicros);
     }
-    
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
+
+    public LocalDateTime updatedAt() {
+        return CompactValues.toLocalDateTime(updatedAtMicros);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Returns this payment with the backend-owned fields applied.
+     * Allocates a single new instance, or none when nothing changes.
+     */
+    public Payment withEnrichment(PaymentEnrichment enrichment) {
+        StatusCode newStatus = enrichment.status() != null ? StatusCode.of(enrichment.status()) : statusCode;
+        long newUpdatedAt = enrichment.updatedAt() != null
+                ? CompactValues.toEpochMicros(enrichment.updatedAt()) : updatedAtMicros;
+        if (Objects.equals(newStatus, statusCode) && newUpdatedAt == updatedAtMicros) {
+            return this;
+        }
+        return new Payment(id, userId, serviceCode, newStatus, reference, amountMinor, amountScale,
+                largeAmount, createdAtMicros, newUpdatedAt);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.financialapiapplication.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fields the payment backend is authoritative for.
+ * Everything else about a payment is owned by the transaction table, so only
+ * these fields are requested from {@code GET /payments/{paymentId}?fields=...}.
+ */
+public record PaymentEnrichment(String status, LocalDateTime updatedAt) {
+
+    /** Value of the {@code fields} query parameter sent to the payment backend. */
+    public static final String FIELDS = "status,updatedAt";
+}
@@ -0,0 +1,55 @@
+package com.example.financialapiapplication.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Reads a {@link Payment} from its public JSON form. Unknown fields are skipped,
+ * and timestamps are read by the mapper's {@code LocalDateTime} deserializer, so
+ * both the ISO string and the array form are accepted.
+ */
+public class PaymentJsonDeserializer extends StdDeserializer<Payment> {
+
+    public PaymentJsonDeserializer() {
+        super(Payment.class);
+    }
+
+    @Override
+    public Payment deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return (Payment) ctxt.handleUnexpectedToken(Payment.class, p);
+        }
+        String id = null;
+        String userId = null;
+        String service = null;
+        String status = null;
+        String reference = null;
+        BigDecimal amount = null;
+        LocalDateTime createdAt = null;
+        LocalDateTime updatedAt = null;
+        for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> id = p.getValueAsString();
+                case "userId" -> userId = p.getValueAsString();
+                case "service" -> service = p.getValueAsString();
+                case "status" -> status = p.getValueAsString();
+                case "reference" -> reference = p.getValueAsString();
+                case "amount" -> amount = ctxt.readValue(p, BigDecimal.class);
+                case "createdAt" -> createdAt = ctxt.readValue(p, LocalDateTime.class);
+                case "updatedAt" -> updatedAt = ctxt.readValue(p, LocalDateTime.class);
+                default -> p.skipChildren();
+            }
+        }
+        return new Payment(id, userId, service, status, reference, amount, createdAt, updatedAt);
+    }
+}
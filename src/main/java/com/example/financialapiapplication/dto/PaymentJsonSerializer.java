@@ -0,0 +1,35 @@
+package com.example.financialapiapplication.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Payment} in its public JSON form, decoding the compact fields.
+ * Timestamps go through the mapper's own {@code LocalDateTime} serializer, so the
+ * configured date format still applies.
+ */
+public class PaymentJsonSerializer extends StdSerializer<Payment> {
+
+    public PaymentJsonSerializer() {
+        super(Payment.class);
+    }
+
+    @Override
+    public void serialize(Payment payment, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(payment);
+        gen.writeStringField("id", payment.id());
+        gen.writeStringField("userId", payment.userId());
+        gen.writeStringField("service", payment.service());
+        gen.writeStringField("status", payment.status());
+        gen.writeStringField("reference", payment.reference());
+        // writeNumber(BigDecimal) writes null for an absent amount
+        gen.writeFieldName("amount");
+        gen.writeNumber(payment.amount());
+        provider.defaultSerializeField("createdAt", payment.createdAt(), gen);
+        provider.defaultSerializeField("updatedAt", payment.updatedAt(), gen);
+        gen.writeEndObject();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.financialapiapplication.dto;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -18,10 +19,18 @@ public class TransactionFilterRequest {
     private String status;
     private String reference;
     
+    // Partial matches; combined with the exact filters above
+    private String referencePrefix;
+    private String referenceContains;
+    private String paymentIdContains;
+    
+    // Every page reads offset + limit rows per shard, so deep offsets are refused
     @Min(value = 0, message = "Offset must be non-negative")
+    @Max(value = 10000, message = "Offset must be at most 10000")
     private Integer offset = 0;
     
     @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 1000, message = "Limit must be at most 1000")
     private Integer limit = 10;
     
     // Default constructor
@@ -90,6 +99,30 @@ public class TransactionFilterRequest {
         this.reference = reference;
     }
     
+    public String getReferencePrefix() {
+        return referencePrefix;
+    }
+    
+    public void setReferencePrefix(String referencePrefix) {
+        this.referencePrefix = referencePrefix;
+    }
+    
+    public String getReferenceContains() {
+        return referenceContains;
+    }
+    
+    public void setReferenceContains(String referenceContains) {
+        this.referenceContains = referenceContains;
+    }
+    
+    public String getPaymentIdContains() {
+        return paymentIdContains;
+    }
+    
+    public void setPaymentIdContains(String paymentIdContains) {
+        this.paymentIdContains = paymentIdContains;
+    }
+    
     public Integer getOffset() {
         return offset;
     }
@@ -0,0 +1,55 @@
+package com.example.financialapiapplication.event;
+
+import com.example.financialapiapplication.model.FinancialTransaction;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that turns transaction writes into application events.
+ * Events are published after the surrounding transaction commits, so listeners
+ * never see rolled-back writes.
+ */
+@Component
+public class TransactionChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public TransactionChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onInsert(FinancialTransaction transaction) {
+        publish(TransactionChangedEvent.of(TransactionChangedEvent.ChangeType.INSERT, transaction));
+    }
+
+    @PostUpdate
+    public void onUpdate(FinancialTransaction transaction) {
+        publish(TransactionChangedEvent.of(TransactionChangedEvent.ChangeType.UPDATE, transaction));
+    }
+
+    @PostRemove
+    public void onDelete(FinancialTransaction transaction) {
+        publish(TransactionChangedEvent.of(TransactionChangedEvent.ChangeType.DELETE, transaction));
+    }
+
+    private void publish(TransactionChangedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(event);
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
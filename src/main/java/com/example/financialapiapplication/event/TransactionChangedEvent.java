@@ -0,0 +1,45 @@
+package com.example.financialapiapplication.event;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.model.FinancialTransaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a committed write to financial_transactions.
+ * Row ids are only unique within one store, so the event names the shard it
+ * was written to; shard 0 is the application's own database.
+ */
+public record TransactionChangedEvent(ChangeType changeType,
+                                      int shard,
+                                      Long transactionId,
+                                      LocalDateTime transactionDate,
+                                      Payment payment) {
+
+    public enum ChangeType {
+        INSERT, UPDATE, DELETE
+    }
+
+    /**
+     * Captures the current state of a transaction entity in the application's own database.
+     */
+    public static TransactionChangedEvent of(ChangeType changeType, FinancialTransaction transaction) {
+        return of(changeType, 0, transaction);
+    }
+
+    /**
+     * Captures the current state of a transaction entity stored on the given shard.
+     */
+    public static TransactionChangedEvent of(ChangeType changeType, int shard, FinancialTransaction transaction) {
+        Payment payment = new Payment(
+                transaction.getPaymentId(),
+                transaction.getUserId(),
+                transaction.getService(),
+                transaction.getStatus(),
+                transaction.getReference(),
+                transaction.getAmount(),
+                transaction.getCreatedAt(),
+                transaction.getUpdatedAt());
+        return new TransactionChangedEvent(changeType, shard, transaction.getId(), transaction.getTransactionDate(), payment);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.financialapiapplication.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, after the gradient algorithm
+ * used by Netflix's concurrency-limits. A slow-moving baseline of request latency
+ * is compared with each new sample: while latency stays near the baseline the
+ * limit grows by about its square root, and as requests start queueing the ratio
+ * drops below one and the limit shrinks proportionally. Server errors cut the limit
+ * multiplicatively (AIMD), since they often mean a dependency is overloaded.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_WINDOW = 500;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double ERROR_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double baselineRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double tolerance) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits need 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Claims a slot if fewer than {@link #getLimit()} requests are in flight.
+     *
+     * @return a permit to release when the request finishes, or null when the limit is reached
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime());
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtCompletion, boolean failed) {
+        if (failed) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * ERROR_BACKOFF);
+            limit = (int) estimatedLimit;
+            return;
+        }
+        double rtt = Math.max(1, rttNanos);
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = rtt;
+        } else {
+            baselineRttNanos += (rtt - baselineRttNanos) / BASELINE_WINDOW;
+            // Let the baseline follow quickly when latency has dropped for good
+            if (baselineRttNanos > 2 * rtt) {
+                baselineRttNanos *= 0.95;
+            }
+        }
+
+        // When far below the limit, latency says nothing about how much more load fits
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineRttNanos / rtt));
+        double next = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + next * smoothing));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * One admitted request. Releasing is idempotent, so completion callbacks that
+     * may fire more than once (async error followed by complete) are safe.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        public void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                int inFlightAtCompletion = inFlight.getAndDecrement();
+                onSample(System.nanoTime() - startNanos, inFlightAtCompletion, failed);
+            }
+        }
+    }
+}
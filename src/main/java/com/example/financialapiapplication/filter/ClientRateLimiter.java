@@ -0,0 +1,99 @@
+package com.example.financialapiapplication.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token bucket implemented as GCRA (generic cell rate algorithm).
+ * Each client's whole bucket state is one theoretical arrival time in an
+ * {@link AtomicLong}, updated with a CAS loop, so concurrent requests never lock.
+ */
+public class ClientRateLimiter {
+
+    /** Shared bucket for new clients once {@code maxClients} active clients are tracked. */
+    static final String OVERFLOW_CLIENT = "";
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int burst;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    public ClientRateLimiter(double tokensPerSecond, int burst, int maxClients) {
+        this(tokensPerSecond, burst, maxClients, System::nanoTime);
+    }
+
+    ClientRateLimiter(double tokensPerSecond, int burst, int maxClients, LongSupplier nanoClock) {
+        if (tokensPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.burst = burst;
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+        this.lastSweep.set(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes {@code cost} tokens from the client's bucket.
+     *
+     * @return 0 when the request is admitted, otherwise the nanoseconds until it would be
+     */
+    public long tryAcquire(String clientId, int cost) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = bucketFor(clientId, now);
+        // A request larger than the bucket could never pass, so it is charged a full bucket
+        long increment = emissionIntervalNanos * Math.min(cost, burst);
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + increment;
+            long waitNanos = next - burstToleranceNanos - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String clientId, long now) {
+        AtomicLong bucket = buckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            sweepIdle(now);
+            if (buckets.size() >= maxClients) {
+                return buckets.computeIfAbsent(OVERFLOW_CLIENT, key -> new AtomicLong(now));
+            }
+        }
+        return buckets.computeIfAbsent(clientId, key -> new AtomicLong(now));
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they carry no state worth keeping.
+     * Runs at most once per second so a flood of new client ids cannot turn every
+     * request into a full scan.
+     */
+    private void sweepIdle(long now) {
+        long last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+}
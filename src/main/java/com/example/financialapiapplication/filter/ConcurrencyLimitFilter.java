@@ -0,0 +1,107 @@
+package com.example.financialapiapplication.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Admits requests through the adaptive concurrency limiter and answers 503 with
+ * Retry-After when it is full. The controller returns reactive types, so most
+ * requests complete asynchronously; their permit is released from an
+ * {@link AsyncListener} once the response is actually done.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final List<String> excludedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, List<String> excludedPaths, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.excludedPaths = List.copyOf(excludedPaths);
+        this.rejected = Counter.builder("financial.limiter.rejected")
+                .tag("reason", "concurrency")
+                .description("Requests rejected by the API admission limits")
+                .register(registry);
+        Gauge.builder("financial.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("financial.limiter.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency permit")
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        boolean async = false;
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit, response));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.release(failed || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    private record PermitReleasingListener(AdaptiveConcurrencyLimiter.Permit permit,
+                                           HttpServletResponse response) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Keep listening when the request goes async again
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.financialapiapplication.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the per-client token bucket and answers 429 with Retry-After once a
+ * client runs dry. Larger pages cost more tokens, so a client paging with
+ * {@code limit=1000} exhausts its share sooner than one reading ten rows at a time.
+ * Clients are keyed by authenticated principal, else by remote address. The
+ * client header is only honoured from trusted proxies, so a caller cannot get a
+ * fresh bucket, or crowd others into the overflow bucket, by varying it.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    private final ClientRateLimiter limiter;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final int rowsPerToken;
+    private final Counter rejected;
+
+    /**
+     * @param trustedProxies remote addresses allowed to name the client through the header
+     */
+    public RateLimitFilter(ClientRateLimiter limiter, String clientHeader, Set<String> trustedProxies,
+                           int rowsPerToken, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = Set.copyOf(trustedProxies);
+        this.rowsPerToken = rowsPerToken;
+        this.rejected = Counter.builder("financial.limiter.rejected")
+                .tag("reason", "rate")
+                .description("Requests rejected by the API admission limits")
+                .register(registry);
+        Gauge.builder("financial.limiter.clients", limiter, ClientRateLimiter::getClientCount)
+                .description("Clients with a tracked token bucket")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = limiter.tryAcquire(clientId(request), cost(request));
+        if (waitNanos > 0) {
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String remoteAddress = request.getRemoteAddr();
+        String clientId = trustedProxies.contains(remoteAddress) ? request.getHeader(clientHeader) : null;
+        if (clientId == null || clientId.isBlank()) {
+            return "addr:" + remoteAddress;
+        }
+        // Proxy-supplied keys are still bounded so they cannot bloat the bucket map
+        return "client:" + (clientId.length() > MAX_CLIENT_ID_LENGTH ? clientId.substring(0, MAX_CLIENT_ID_LENGTH) : clientId);
+    }
+
+    private int cost(HttpServletRequest request) {
+        String limit = request.getParameter("limit");
+        if (limit == null) {
+            return 1;
+        }
+        try {
+            return 1 + Math.max(0, Integer.parseInt(limit.trim())) / rowsPerToken;
+        } catch (NumberFormatException e) {
+            // Rejected by validation later on; charge it like any other request
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.financialapiapplication.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Interns the values of a low-cardinality column, so every row shares one
+ * instance per distinct value instead of holding its own string. The dictionary
+ * is bounded: once full, further values are returned uninterned rather than
+ * letting unexpected input grow it without limit.
+ */
+final class CodeDictionary<T> {
+
+    private final ConcurrentMap<String, T> codes = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+    private final int maxSize;
+
+    CodeDictionary(Function<String, T> factory, int maxSize) {
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    T of(String value) {
+        if (value == null) {
+            return null;
+        }
+        T code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (codes.size() >= maxSize) {
+            return factory.apply(value);
+        }
+        return codes.computeIfAbsent(value, factory);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.financialapiapplication.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Primitive encodings used by the compact row representation: amounts as long
+ * minor units with their decimal scale (amounts whose unscaled value does not fit
+ * a long are kept as BigDecimal by the caller), timestamps as microseconds since the
+ * epoch (the precision of the TIMESTAMP(6) columns). Local date-times are encoded
+ * as if they were UTC; the encoding only has to round-trip, not carry a zone.
+ */
+public final class CompactValues {
+
+    /** Scale marking an absent amount. */
+    public static final int NO_AMOUNT = Integer.MIN_VALUE;
+
+    /** Marks an absent timestamp. */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private CompactValues() {
+    }
+
+    /**
+     * Returns true when the amount can be encoded as minor units; NUMERIC(38,2)
+     * columns can hold values that cannot.
+     */
+    public static boolean fitsMinorUnits(BigDecimal amount) {
+        return amount == null || amount.unscaledValue().bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Returns the unscaled value of the amount, e.g. 15000 for 150.00, or 0 when
+     * it does not {@linkplain #fitsMinorUnits fit}.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount != null && fitsMinorUnits(amount) ? amount.unscaledValue().longValue() : 0L;
+    }
+
+    /**
+     * Returns the amount's scale, or {@link #NO_AMOUNT} when it is absent or does
+     * not {@linkplain #fitsMinorUnits fit}.
+     */
+    public static int toScale(BigDecimal amount) {
+        return amount != null && fitsMinorUnits(amount) ? amount.scale() : NO_AMOUNT;
+    }
+
+    public static BigDecimal toAmount(long minorUnits, int scale) {
+        return scale == NO_AMOUNT ? null : BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    /**
+     * Orders amounts by value, absent amounts last. Amounts of equal scale, the
+     * usual case within one currency, are compared without allocating.
+     */
+    public static int compareAmounts(long minorA, int scaleA, long minorB, int scaleB) {
+        if (scaleA == NO_AMOUNT || scaleB == NO_AMOUNT) {
+            return Boolean.compare(scaleA == NO_AMOUNT, scaleB == NO_AMOUNT);
+        }
+        if (scaleA == scaleB) {
+            return Long.compare(minorA, minorB);
+        }
+        return toAmount(minorA, scaleA).compareTo(toAmount(minorB, scaleB));
+    }
+
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIMESTAMP;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMicros) {
+        if (epochMicros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Orders timestamps chronologically, absent timestamps last.
+     */
+    public static int compareTimestamps(long epochMicrosA, long epochMicrosB) {
+        if (epochMicrosA == NO_TIMESTAMP || epochMicrosB == NO_TIMESTAMP) {
+            return Boolean.compare(epochMicrosA == NO_TIMESTAMP, epochMicrosB == NO_TIMESTAMP);
+        }
+        return Long.compare(epochMicrosA, epochMicrosB);
+    }
+}
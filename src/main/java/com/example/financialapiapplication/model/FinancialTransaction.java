@@ -1,11 +1,28 @@
 package com.example.financialapiapplication.model;
 
+import com.example.financialapiapplication.event.TransactionChangePublisher;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "financial_transactions")
+// Every property TransactionQueryService allows as a sort has a (column, id) index,
+// matching the ORDER BY column, id of the page queries
+@Table(name = "financial_transactions", indexes = {
+        @Index(name = "idx_ft_transaction_date", columnList = "transaction_date, id"),
+        @Index(name = "idx_ft_payment_id", columnList = "payment_id, id"),
+        @Index(name = "idx_ft_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_ft_amount", columnList = "amount, id"),
+        @Index(name = "idx_ft_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_ft_updated_at", columnList = "updated_at, id"),
+        @Index(name = "idx_ft_reference", columnList = "reference")
+})
+@EntityListeners(TransactionChangePublisher.class)
 public class FinancialTransaction {
     
     @Id
@@ -19,10 +36,10 @@ public class FinancialTransaction {
     private String userId;
     
     @Column(name = "service")
-    private String service;
+    private ServiceCode service;
     
     @Column(name = "status")
-    private String status;
+    private StatusCode status;
     
     @Column(name = "reference")
     private String reference;
@@ -39,6 +56,18 @@ public class FinancialTransaction {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Trigram keys of reference and paymentId, maintained on write for substring search.
+    // Rows written before the grams existed are filled in by SearchGramBackfillJob;
+    // until then they never match referenceContains or paymentIdContains.
+    // ON DELETE CASCADE keeps bulk deletes (archival) from leaving orphaned grams.
+    @ElementCollection
+    @CollectionTable(name = "financial_transaction_grams",
+            joinColumns = @JoinColumn(name = "transaction_id"),
+            indexes = @Index(name = "idx_ftg_gram", columnList = "gram, transaction_id"))
+    @Column(name = "gram", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Set<String> searchGrams = new HashSet<>();
+    
     // Default constructor
     public FinancialTransaction() {}
     
@@ -47,13 +76,14 @@ public class FinancialTransaction {
                                String reference, BigDecimal amount, LocalDateTime transactionDate) {
         this.paymentId = paymentId;
         this.userId = userId;
-        this.service = service;
-        this.status = status;
+        this.service = ServiceCode.of(service);
+        this.status = StatusCode.of(status);
         this.reference = reference;
         this.amount = amount;
         this.transactionDate = transactionDate;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        refreshSearchGrams();
     }
     
     // Getters and Setters
@@ -71,6 +101,7 @@ public class FinancialTransaction {
     
     public void setPaymentId(String paymentId) {
         this.paymentId = paymentId;
+        refreshSearchGrams();
     }
     
     public String getUserId() {
@@ -82,19 +113,19 @@ public class FinancialTransaction {
     }
     
     public String getService() {
-        return service;
+        return service != null ? service.value() : null;
     }
     
     public void setService(String service) {
-        this.service = service;
+        this.service = ServiceCode.of(service);
     }
     
     public String getStatus() {
-        return status;
+        return status != null ? status.value() : null;
     }
     
     public void setStatus(String status) {
-        this.status = status;
+        this.status = StatusCode.of(status);
     }
     
     public String getReference() {
@@ -103,6 +134,7 @@ public class FinancialTransaction {
     
     public void setReference(String reference) {
         this.reference = reference;
+        refreshSearchGrams();
     }
     
     public BigDecimal getAmount() {
@@ -136,4 +168,15 @@ public class FinancialTransaction {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public Set<String> getSearchGrams() {
+        return searchGrams;
+    }
+    
+    // Updates the collection in place so Hibernate only writes the grams that changed
+    public void refreshSearchGrams() {
+        Set<String> grams = SearchGrams.forTransaction(reference, paymentId);
+        searchGrams.retainAll(grams);
+        searchGrams.addAll(grams);
+    }
 }
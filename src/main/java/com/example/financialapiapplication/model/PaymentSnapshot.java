@@ -0,0 +1,78 @@
+package com.example.financialapiapplication.model;
+
+import com.example.financialapiapplication.dto.PaymentEnrichment;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of the backend-owned payment fields, refreshed by the snapshot sync
+ * job. A snapshot without a status records that the backend had nothing for the
+ * payment when it was last synced.
+ */
+@Entity
+@Table(name = "payment_snapshots", indexes = {
+        @Index(name = "idx_ps_synced_at", columnList = "synced_at")
+})
+public class PaymentSnapshot {
+    
+    @Id
+    @Column(name = "payment_id")
+    private String paymentId;
+    
+    @Column(name = "status")
+    private StatusCode status;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+    
+    // Default constructor
+    public PaymentSnapshot() {}
+    
+    public PaymentSnapshot(String paymentId, PaymentEnrichment enrichment, LocalDateTime syncedAt) {
+        this.paymentId = paymentId;
+        this.status = enrichment != null ? StatusCode.of(enrichment.status()) : null;
+        this.updatedAt = enrichment != null ? enrichment.updatedAt() : null;
+        this.syncedAt = syncedAt;
+    }
+    
+    public PaymentEnrichment toEnrichment() {
+        return new PaymentEnrichment(getStatus(), updatedAt);
+    }
+    
+    // Getters and Setters
+    public String getPaymentId() {
+        return paymentId;
+    }
+    
+    public void setPaymentId(String paymentId) {
+        this.paymentId = paymentId;
+    }
+    
+    public String getStatus() {
+        return status != null ? status.value() : null;
+    }
+    
+    public void setStatus(String status) {
+        this.status = StatusCode.of(status);
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getSyncedAt() {
+        return syncedAt;
+    }
+    
+    public void setSyncedAt(LocalDateTime syncedAt) {
+        this.syncedAt = syncedAt;
+    }
+}
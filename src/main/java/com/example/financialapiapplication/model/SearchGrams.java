@@ -0,0 +1,46 @@
+package com.example.financialapiapplication.model;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Trigram keys for substring search. Every distinct three-character window of a
+ * searchable column is stored as {@code <field>:<trigram>}; a row can only contain
+ * a search term if it has all of the term's trigrams, so the gram index narrows
+ * the candidates before the exact LIKE check runs.
+ */
+public final class SearchGrams {
+
+    public static final String REFERENCE = "r";
+    public static final String PAYMENT_ID = "p";
+
+    private static final int GRAM_LENGTH = 3;
+
+    private SearchGrams() {
+    }
+
+    /**
+     * Returns the trigram keys of the value for the given field, or an empty set
+     * when the value is null or shorter than a trigram.
+     */
+    public static Set<String> of(String field, String value) {
+        if (value == null || value.length() < GRAM_LENGTH) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(field + ":" + value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the keys stored for a transaction's searchable columns.
+     */
+    public static Set<String> forTransaction(String reference, String paymentId) {
+        Set<String> grams = new LinkedHashSet<>(of(REFERENCE, reference));
+        grams.addAll(of(PAYMENT_ID, paymentId));
+        return grams;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.financialapiapplication.model;
+
+/**
+ * Dictionary-encoded payment service (PAYMENT_SERVICE, TRANSFER_SERVICE, ...).
+ * Values are interned, so rows share one instance per distinct value.
+ */
+public final class ServiceCode {
+
+    private static final CodeDictionary<ServiceCode> DICTIONARY = new CodeDictionary<>(ServiceCode::new, 256);
+
+    private final String value;
+
+    private ServiceCode(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the shared instance for the value, or null for null.
+     */
+    public static ServiceCode of(String value) {
+        return DICTIONARY.of(value);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof ServiceCode code && value.equals(code.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.financialapiapplication.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps the service column to its interned {@link ServiceCode}.
+ */
+@Converter(autoApply = true)
+public class ServiceCodeConverter implements AttributeConverter<ServiceCode, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ServiceCode code) {
+        return code != null ? code.value() : null;
+    }
+
+    @Override
+    public ServiceCode convertToEntityAttribute(String value) {
+        return ServiceCode.of(value);
+    }
+}
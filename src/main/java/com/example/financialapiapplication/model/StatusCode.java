@@ -0,0 +1,42 @@
+package com.example.financialapiapplication.model;
+
+/**
+ * Dictionary-encoded transaction status (COMPLETED, PENDING, FAILED, ...).
+ * Values are interned, so rows share one instance per distinct value.
+ */
+public final class StatusCode {
+
+    private static final CodeDictionary<StatusCode> DICTIONARY = new CodeDictionary<>(StatusCode::new, 256);
+
+    private final String value;
+
+    private StatusCode(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the shared instance for the value, or null for null.
+     */
+    public static StatusCode of(String value) {
+        return DICTIONARY.of(value);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof StatusCode code && value.equals(code.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.financialapiapplication.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps the status column to its interned {@link StatusCode}.
+ */
+@Converter(autoApply = true)
+public class StatusCodeConverter implements AttributeConverter<StatusCode, String> {
+
+    @Override
+    public String convertToDatabaseColumn(StatusCode code) {
+        return code != null ? code.value() : null;
+    }
+
+    @Override
+    public StatusCode convertToEntityAttribute(String value) {
+        return StatusCode.of(value);
+    }
+}
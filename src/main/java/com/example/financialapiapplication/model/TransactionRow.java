@@ -0,0 +1,58 @@
+package com.example.financialapiapplication.model;
+
+import com.example.financialapiapplication.dto.Payment;
+
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * A transaction row with the keys needed to filter and merge it outside the
+ * database: its id and transaction date alongside the payment view. Used for
+ * archive segments and for merging results across shards.
+ */
+public record TransactionRow(Long id, LocalDateTime transactionDate, Payment payment) {
+
+    /**
+     * Flat constructor used by JPQL constructor expressions.
+     */
+    public TransactionRow(Long id, LocalDateTime transactionDate, String paymentId, String userId,
+                          ServiceCode service, StatusCode status, String reference, BigDecimal amount,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, transactionDate, new Payment(paymentId, userId, service, status, reference,
+                amount, createdAt, updatedAt));
+    }
+
+    /**
+     * Returns a comparator equivalent to the given repository sort, for merging
+     * rows that were sorted by different stores. Ties are broken by payment id
+     * because row ids are only unique within one store.
+     */
+    public static Comparator<TransactionRow> comparator(Sort sort) {
+        Comparator<TransactionRow> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<TransactionRow> next = SORT_KEYS.get(order.getProperty());
+            if (next == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            next = order.isDescending() ? next.reversed() : next;
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<TransactionRow> byPaymentId = Comparator.comparing(row -> row.payment().id(),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        return comparator == null ? byPaymentId : comparator.thenComparing(byPaymentId);
+    }
+
+    private static final Map<String, Comparator<TransactionRow>> SORT_KEYS = Map.of(
+            "id", Comparator.comparing(TransactionRow::id, Comparator.nullsLast(Comparator.naturalOrder())),
+            "transactionDate", Comparator.comparing(TransactionRow::transactionDate,
+                    Comparator.nullsLast(Comparator.naturalOrder())),
+            "paymentId", Comparator.comparing(row -> row.payment().id(), Comparator.nullsLast(Comparator.naturalOrder())),
+            "userId", Comparator.comparing(row -> row.payment().userId(), Comparator.nullsLast(Comparator.naturalOrder())),
+            "amount", Comparator.comparing(TransactionRow::payment, Payment.BY_AMOUNT),
+            "createdAt", Comparator.comparing(TransactionRow::payment, Payment.BY_CREATED_AT),
+            "updatedAt", Comparator.comparing(TransactionRow::payment, Payment.BY_UPDATED_AT));
+}
@@ -1,15 +1,25 @@
 package com.example.financialapiapplication.repository;
 
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.model.TransactionRow;
 import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.ServiceCode;
+import com.example.financialapiapplication.model.StatusCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository implementation for financial transaction operations.
@@ -17,22 +27,162 @@ import java.util.List;
  */
 @Repository
 public interface FinancialTransactionRepository extends JpaRepository<FinancialTransaction, Long> {
-    
-    @Query("SELECT ft FROM FinancialTransaction ft WHERE " +
+
+    String FILTER_CLAUSE = " WHERE " +
            "(:dateFrom IS NULL OR ft.transactionDate >= :dateFrom) AND " +
            "(:dateTo IS NULL OR ft.transactionDate <= :dateTo) AND " +
            "(:userId IS NULL OR ft.userId = :userId) AND " +
            "(:service IS NULL OR ft.service = :service) AND " +
            "(:status IS NULL OR ft.status = :status) AND " +
-           "(:reference IS NULL OR ft.reference = :reference)")
+           "(:reference IS NULL OR ft.reference = :reference) AND " +
+           "(:#{#search.referencePrefix()} IS NULL OR (ft.reference >= :#{#search.referencePrefix()} " +
+           "AND ft.reference < :#{#search.referencePrefixEnd()})) AND " +
+           "(:#{#search.referencePattern()} IS NULL OR ft.reference LIKE :#{#search.referencePattern()} ESCAPE '!') AND " +
+           "(:#{#search.paymentIdPattern()} IS NULL OR ft.paymentId LIKE :#{#search.paymentIdPattern()} ESCAPE '!')";
+
+    /**
+     * Filter clause for substring searches: the trigram index yields the rows that
+     * contain every gram of the search terms, and only those are LIKE-checked.
+     */
+    String SEARCH_CLAUSE = FILTER_CLAUSE + " AND ft.id IN (" +
+           "SELECT g.id FROM FinancialTransaction g JOIN g.searchGrams gram " +
+           "WHERE gram IN :#{#search.grams()} GROUP BY g.id HAVING COUNT(gram) = :#{#search.gramCount()})";
+
+    String PAYMENT_SELECT = "SELECT new com.example.financialapiapplication.dto.Payment(" +
+           "ft.paymentId, ft.userId, ft.service, ft.status, ft.reference, " +
+           "ft.amount, ft.createdAt, ft.updatedAt) FROM FinancialTransaction ft";
+
+    String ROW_SELECT = "SELECT new com.example.financialapiapplication.model.TransactionRow(" +
+           "ft.id, ft.transactionDate, ft.paymentId, ft.userId, ft.service, ft.status, " +
+           "ft.reference, ft.amount, ft.createdAt, ft.updatedAt) FROM FinancialTransaction ft";
+
+    String COUNT_SELECT = "SELECT COUNT(ft) FROM FinancialTransaction ft";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT ft FROM FinancialTransaction ft" + FILTER_CLAUSE)
     Page<FinancialTransaction> findTransactionsWithFilters(
             @Param("dateFrom") LocalDateTime dateFrom,
             @Param("dateTo") LocalDateTime dateTo,
             @Param("userId") String userId,
-            @Param("service") String service,
-            @Param("status") String status,
+            @Param("service") ServiceCode service,
+            @Param("status") StatusCode status,
+            @Param("reference") String reference,
+            @Param("search") TextSearchCriteria search,
+            Pageable pageable);
+
+    /**
+     * Read model query: projects rows straight into {@link Payment} DTOs, so no
+     * managed entities or dirty-checking snapshots are created.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = PAYMENT_SELECT + FILTER_CLAUSE, countQuery = COUNT_SELECT + FILTER_CLAUSE)
+    Page<Payment> findPaymentsWithFilters(
+            @Param("dateFrom") LocalDateTime dateFrom,
+            @Param("dateTo") LocalDateTime dateTo,
+            @Param("userId") String userId,
+            @Param("service") ServiceCode service,
+            @Param("status") StatusCode status,
+            @Param("reference") String reference,
+            @Param("search") TextSearchCriteria search,
+            Pageable pageable);
+
+    /**
+     * Same read model as {@link #findPaymentsWithFilters}, keeping the row id and
+     * transaction date so results can be merged with other stores.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = ROW_SELECT + FILTER_CLAUSE, countQuery = COUNT_SELECT + FILTER_CLAUSE)
+    Page<TransactionRow> findRowsWithFilters(
+            @Param("dateFrom") LocalDateTime dateFrom,
+            @Param("dateTo") LocalDateTime dateTo,
+            @Param("userId") String userId,
+            @Param("service") ServiceCode service,
+            @Param("status") StatusCode status,
             @Param("reference") String reference,
+            @Param("search") TextSearchCriteria search,
+            Pageable pageable);
+
+    /**
+     * {@link #findPaymentsWithFilters} narrowed through the trigram index; used when
+     * {@link TextSearchCriteria#hasGrams()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = PAYMENT_SELECT + SEARCH_CLAUSE, countQuery = COUNT_SELECT + SEARCH_CLAUSE)
+    Page<Payment> searchPaymentsWithFilters(
+            @Param("dateFrom") LocalDateTime dateFrom,
+            @Param("dateTo") LocalDateTime dateTo,
+            @Param("userId") String userId,
+            @Param("service") ServiceCode service,
+            @Param("status") StatusCode status,
+            @Param("reference") String reference,
+            @Param("search") TextSearchCriteria search,
+            Pageable pageable);
+
+    /**
+     * {@link #findRowsWithFilters} narrowed through the trigram index; used when
+     * {@link TextSearchCriteria#hasGrams()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = ROW_SELECT + SEARCH_CLAUSE, countQuery = COUNT_SELECT + SEARCH_CLAUSE)
+    Page<TransactionRow> searchRowsWithFilters(
+            @Param("dateFrom") LocalDateTime dateFrom,
+            @Param("dateTo") LocalDateTime dateTo,
+            @Param("userId") String userId,
+            @Param("service") ServiceCode service,
+            @Param("status") StatusCode status,
+            @Param("reference") String reference,
+            @Param("search") TextSearchCriteria search,
             Pageable pageable);
     
     List<FinancialTransaction> findByPaymentIdIn(List<String> paymentIds);
-} 
\ No newline at end of file
+    
+    @Query("SELECT MIN(ft.transactionDate) FROM FinancialTransaction ft")
+    Optional<LocalDateTime> findOldestTransactionDate();
+    
+    /**
+     * Reads the next batch of rows in [from, to) after the given id, for archival.
+     */
+    @Query("SELECT new com.example.financialapiapplication.model.TransactionRow(" +
+           "ft.id, ft.transactionDate, ft.paymentId, ft.userId, ft.service, ft.status, " +
+           "ft.reference, ft.amount, ft.createdAt, ft.updatedAt) " +
+           "FROM FinancialTransaction ft WHERE ft.transactionDate >= :from AND ft.transactionDate < :to " +
+           "AND ft.id > :afterId ORDER BY ft.id")
+    List<TransactionRow> findArchiveBatch(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
+    /**
+     * Ids of rows after the given id that have no search grams, in id order; used
+     * to backfill rows written before the gram index existed.
+     */
+    @Query("SELECT ft.id FROM FinancialTransaction ft WHERE ft.id > :afterId AND ft.searchGrams IS EMPTY ORDER BY ft.id")
+    List<Long> findIdsWithoutSearchGrams(
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
+    /**
+     * Reads the next batch of rows dated at or after from, after the given id;
+     * keyset pagination for loading the hot window.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(ROW_SELECT + " WHERE ft.transactionDate >= :from AND ft.id > :afterId ORDER BY ft.id")
+    List<TransactionRow> findBatchSince(
+            @Param("from") LocalDateTime from,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
+    /**
+     * Removes archived rows from the hot table. Bulk delete on purpose: archiving is
+     * not a logical delete, so entity listeners must not see it.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FinancialTransaction ft WHERE ft.transactionDate >= :from AND ft.transactionDate < :to " +
+           "AND ft.id <= :maxId")
+    int deleteArchivedRange(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("maxId") Long maxId);
+}
\ No newline at end of file
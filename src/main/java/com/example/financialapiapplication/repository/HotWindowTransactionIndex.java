@@ -0,0 +1,420 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.event.TransactionChangedEvent;
+import com.example.financialapiapplication.model.CompactValues;
+import com.example.financialapiapplication.model.ServiceCode;
+import com.example.financialapiapplication.model.StatusCode;
+import com.example.financialapiapplication.model.TransactionRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process columnar index of recent transactions.
+ * Rows live in primitive column arrays: service, status and userId are
+ * dictionary-encoded ints, while timestamps and amounts keep the compact
+ * encoding {@link Payment} already carries (epoch micros, minor units and
+ * scale); the rare amounts too large for minor units are kept in a side map. Each encoded column has a bitmap posting list per value, so filters
+ * are bitmap intersections. The index is fed from committed change events and
+ * periodically compacted to drop rows that aged out of the window. Rows are
+ * keyed by shard and id, since ids are only unique within one store.
+ */
+@Repository
+@ConditionalOnProperty(name = "financial.hot-index.enabled", havingValue = "true")
+public class HotWindowTransactionIndex {
+
+    private static final String SORT_PROPERTY = "transactionDate";
+
+    private final Duration window;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Columns columns = new Columns(1024);
+    private volatile boolean ready;
+    private Set<RowKey> deletedDuringWarmUp = new HashSet<>();
+
+    public HotWindowTransactionIndex(@Value("${financial.hot-index.window:72h}") Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * Answers the query from the index when its date range lies inside the window
+     * and it is sorted by transaction date; returns empty so the caller falls
+     * back to the repository otherwise. The window must stay under 24 days so
+     * date offsets fit the packed sort keys.
+     */
+    public Optional<Page<Payment>> find(TransactionFilterRequest request, Pageable pageable) {
+        if (!ready || request.getDateFrom() == null || request.getDateFrom().isBefore(windowStart())) {
+            return Optional.empty();
+        }
+        Sort.Order order = pageable.getSort().iterator().next();
+        if (!SORT_PROPERTY.equals(order.getProperty())) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(columns.query(request, pageable, order.isDescending()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a committed write. Rows outside the window are ignored or removed.
+     */
+    public void apply(TransactionChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            RowKey key = new RowKey(event.shard(), event.transactionId());
+            if (event.changeType() == TransactionChangedEvent.ChangeType.DELETE) {
+                columns.remove(key);
+                if (deletedDuringWarmUp != null) {
+                    deletedDuringWarmUp.add(key);
+                }
+            } else if (isInWindow(event.transactionDate())) {
+                columns.upsert(key, event.transactionDate(), event.payment());
+            } else {
+                columns.remove(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads one batch of the current window read from the given shard. Rows already
+     * indexed from change events are newer than the loaded copy and are kept; rows
+     * deleted meanwhile are skipped. The write lock is held for one batch at a time.
+     */
+    public void warmUp(int shard, List<TransactionRow> rows) {
+        lock.writeLock().lock();
+        try {
+            if (deletedDuringWarmUp == null) {
+                throw new IllegalStateException("Hot-window index is already warmed up");
+            }
+            for (TransactionRow row : rows) {
+                RowKey key = new RowKey(shard, row.id());
+                if (!columns.contains(key) && !deletedDuringWarmUp.contains(key)
+                        && isInWindow(row.transactionDate())) {
+                    columns.upsert(key, row.transactionDate(), row.payment());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the warm-up complete; the index answers queries from now on.
+     */
+    public void finishWarmUp() {
+        lock.writeLock().lock();
+        try {
+            deletedDuringWarmUp = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the columns without deleted rows and rows older than the window.
+     * Dictionaries are rebuilt too, so values that stopped occurring are released.
+     */
+    public void evictExpired() {
+        long cutoff = CompactValues.toEpochMicros(windowStart());
+        lock.writeLock().lock();
+        try {
+            columns = columns.compact(cutoff);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public LocalDateTime windowStart() {
+        return LocalDateTime.now().minus(window);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isInWindow(LocalDateTime transactionDate) {
+        return transactionDate != null && !transactionDate.isBefore(windowStart());
+    }
+
+    private record RowKey(int shard, long id) {
+    }
+
+    /**
+     * String dictionary; code 0 is reserved for null.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> postings = new ArrayList<>();
+
+        private Dictionary() {
+            values.add(null);
+            postings.add(new BitSet());
+        }
+
+        int encode(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+                postings.add(new BitSet());
+            }
+            return code;
+        }
+
+        /** Returns the code of an existing value, or -1 when it never occurs. */
+        int lookup(String value) {
+            Integer code = codes.get(value);
+            return code != null ? code : -1;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        BitSet posting(int code) {
+            return postings.get(code);
+        }
+    }
+
+    /**
+     * Column arrays for every indexed row, including removed ones until compaction.
+     */
+    private static final class Columns {
+
+        private int[] shards;
+        private long[] ids;
+        private long[] transactionDates;
+        private long[] createdAts;
+        private long[] updatedAts;
+        private long[] amountsMinor;
+        private int[] amountScales;
+        private int[] userIds;
+        private int[] services;
+        private int[] statuses;
+        private String[] paymentIds;
+        private String[] references;
+        private int size;
+
+        private final BitSet live = new BitSet();
+        private final Map<RowKey, Integer> positions = new HashMap<>();
+        private final Map<Integer, BigDecimal> largeAmounts = new HashMap<>();
+        private final Dictionary userIdDictionary = new Dictionary();
+        private final Dictionary serviceDictionary = new Dictionary();
+        private final Dictionary statusDictionary = new Dictionary();
+
+        private Columns(int capacity) {
+            shards = new int[capacity];
+            ids = new long[capacity];
+            transactionDates = new long[capacity];
+            createdAts = new long[capacity];
+            updatedAts = new long[capacity];
+            amountsMinor = new long[capacity];
+            amountScales = new int[capacity];
+            userIds = new int[capacity];
+            services = new int[capacity];
+            statuses = new int[capacity];
+            paymentIds = new String[capacity];
+            references = new String[capacity];
+        }
+
+        boolean contains(RowKey key) {
+            return positions.containsKey(key);
+        }
+
+        void upsert(RowKey key, LocalDateTime transactionDate, Payment payment) {
+            remove(key);
+            ensureCapacity(size + 1);
+            int row = size++;
+            shards[row] = key.shard();
+            ids[row] = key.id();
+            transactionDates[row] = CompactValues.toEpochMicros(transactionDate);
+            createdAts[row] = payment.createdAtMicros();
+            updatedAts[row] = payment.updatedAtMicros();
+            amountsMinor[row] = payment.amountMinor();
+            amountScales[row] = payment.amountScale();
+            if (payment.largeAmount() != null) {
+                largeAmounts.put(row, payment.largeAmount());
+            }
+            userIds[row] = userIdDictionary.encode(payment.userId());
+            services[row] = serviceDictionary.encode(payment.service());
+            statuses[row] = statusDictionary.encode(payment.status());
+            paymentIds[row] = payment.id();
+            references[row] = payment.reference();
+
+            userIdDictionary.posting(userIds[row]).set(row);
+            serviceDictionary.posting(services[row]).set(row);
+            statusDictionary.posting(statuses[row]).set(row);
+            live.set(row);
+            positions.put(key, row);
+        }
+
+        void remove(RowKey key) {
+            Integer row = positions.remove(key);
+            if (row != null) {
+                live.clear(row);
+                userIdDictionary.posting(userIds[row]).clear(row);
+                serviceDictionary.posting(services[row]).clear(row);
+                statusDictionary.posting(statuses[row]).clear(row);
+            }
+        }
+
+        Page<Payment> query(TransactionFilterRequest request, Pageable pageable, boolean descending) {
+            BitSet candidates = (BitSet) live.clone();
+            if (!intersect(candidates, userIdDictionary, request.getUserId())
+                    || !intersect(candidates, serviceDictionary, request.getService())
+                    || !intersect(candidates, statusDictionary, request.getStatus())) {
+                return Page.empty(pageable);
+            }
+
+            long from = CompactValues.toEpochMicros(request.getDateFrom());
+            long to = request.getDateTo() != null ? CompactValues.toEpochMicros(request.getDateTo()) : Long.MAX_VALUE;
+            String reference = request.getReference();
+
+            // Sort keys pack the millisecond offset (date - from) in the high bits and the row
+            // in the low 32 bits, so one primitive sort orders matches by date
+            long[] keys = new long[candidates.cardinality()];
+            int matches = 0;
+            for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                long date = transactionDates[row];
+                if (date < from || date > to || (reference != null && !reference.equals(references[row]))
+                        || !TextSearchCriteria.matches(request, references[row], paymentIds[row])) {
+                    continue;
+                }
+                long offsetMillis = (date - from) / 1000;
+                if (offsetMillis > Integer.MAX_VALUE) {
+                    return null;
+                }
+                keys[matches++] = (offsetMillis << 32) | row;
+            }
+            Arrays.sort(keys, 0, matches);
+            sortTiesById(keys, matches);
+
+            long offset = pageable.getOffset();
+            List<Payment> content = new ArrayList<>(pageable.getPageSize());
+            for (long i = offset; i < matches && content.size() < pageable.getPageSize(); i++) {
+                long key = keys[(int) (descending ? matches - 1 - i : i)];
+                content.add(toPayment((int) key));
+            }
+            return new PageImpl<>(content, pageable, matches);
+        }
+
+        /**
+         * Reorders runs within one millisecond by the exact date, then by id, matching
+         * the repository's id tie-breaker.
+         */
+        private void sortTiesById(long[] keys, int length) {
+            for (int i = 1; i < length; i++) {
+                long key = keys[i];
+                int j = i - 1;
+                while (j >= 0 && (keys[j] >>> 32) == (key >>> 32) && isAfter((int) keys[j], (int) key)) {
+                    keys[j + 1] = keys[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+            }
+        }
+
+        private boolean isAfter(int row, int other) {
+            return transactionDates[row] != transactionDates[other]
+                    ? transactionDates[row] > transactionDates[other]
+                    : ids[row] > ids[other];
+        }
+
+        Columns compact(long cutoff) {
+            Columns compacted = new Columns(Math.max(1024, live.cardinality()));
+            for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+                if (transactionDates[row] >= cutoff) {
+                    compacted.upsert(new RowKey(shards[row], ids[row]), CompactValues.toLocalDateTime(transactionDates[row]), toPayment(row));
+                }
+            }
+            return compacted;
+        }
+
+        private Payment toPayment(int row) {
+            return new Payment(
+                    paymentIds[row],
+                    userIdDictionary.decode(userIds[row]),
+                    ServiceCode.of(serviceDictionary.decode(services[row])),
+                    StatusCode.of(statusDictionary.decode(statuses[row])),
+                    references[row],
+                    amountsMinor[row],
+                    amountScales[row],
+                    largeAmounts.get(row),
+                    createdAts[row],
+                    updatedAts[row]);
+        }
+
+        private static boolean intersect(BitSet candidates, Dictionary dictionary, String value) {
+            if (value == null) {
+                return true;
+            }
+            int code = dictionary.lookup(value);
+            if (code < 0) {
+                return false;
+            }
+            candidates.and(dictionary.posting(code));
+            return !candidates.isEmpty();
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length * 2);
+            shards = Arrays.copyOf(shards, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            transactionDates = Arrays.copyOf(transactionDates, capacity);
+            createdAts = Arrays.copyOf(createdAts, capacity);
+            updatedAts = Arrays.copyOf(updatedAts, capacity);
+            amountsMinor = Arrays.copyOf(amountsMinor, capacity);
+            amountScales = Arrays.copyOf(amountScales, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            services = Arrays.copyOf(services, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            paymentIds = Arrays.copyOf(paymentIds, capacity);
+            references = Arrays.copyOf(references, capacity);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.event.TransactionChangedEvent;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.SearchGrams;
+import com.example.financialapiapplication.model.TransactionRow;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * A remote shard of financial_transactions accessed with plain JDBC.
+ * Each shard holds the same schema ({@code db/shard-schema.sql}) as the main database.
+ */
+public class JdbcTransactionShard implements TransactionShard, AutoCloseable {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "transactionDate", "transaction_date",
+            "paymentId", "payment_id",
+            "userId", "user_id",
+            "amount", "amount",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
+    private static final RowMapper<TransactionRow> ROW_MAPPER = (rs, rowNum) -> new TransactionRow(
+            rs.getLong("id"),
+            toLocalDateTime(rs.getTimestamp("transaction_date")),
+            new Payment(
+                    rs.getString("payment_id"),
+                    rs.getString("user_id"),
+                    rs.getString("service"),
+                    rs.getString("status"),
+                    rs.getString("reference"),
+                    rs.getBigDecimal("amount"),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("updated_at"))));
+
+    private static final String INSERT_GRAM =
+            "INSERT INTO financial_transaction_grams (transaction_id, gram) VALUES (:id, :gram)";
+
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbc;
+    // The row and its grams are written together, so search never misses a stored row
+    private final TransactionTemplate writeTransaction;
+    private final int shard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param shard this shard's position in the sharded layer, carried on its change events
+     */
+    public JdbcTransactionShard(DataSource dataSource, int shard, ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        this.writeTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.shard = shard;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Creates the shard schema if it does not exist yet (used for local embedded shards).
+     */
+    public void initializeSchema() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql"))
+                .execute(jdbc.getJdbcTemplate().getDataSource());
+    }
+
+    @Override
+    public Page<TransactionRow> findRows(TransactionFilterRequest request, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhereClause(request, params);
+
+        Long total = jdbc.queryForObject("SELECT COUNT(*) FROM financial_transactions" + where, params, Long.class);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+        List<TransactionRow> rows = jdbc.query(
+                "SELECT * FROM financial_transactions" + where + buildOrderBy(pageable.getSort())
+                        + " LIMIT :limit OFFSET :offset",
+                params, ROW_MAPPER);
+        return new PageImpl<>(rows, pageable, total);
+    }
+
+    @Override
+    public List<TransactionRow> findBatchSince(LocalDateTime from, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return jdbc.query("SELECT * FROM financial_transactions WHERE transaction_date >= :from AND id > :afterId " +
+                "ORDER BY id LIMIT :limit", params, ROW_MAPPER);
+    }
+
+    @Override
+    public FinancialTransaction save(FinancialTransaction transaction) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("paymentId", transaction.getPaymentId())
+                .addValue("userId", transaction.getUserId())
+                .addValue("service", transaction.getService())
+                .addValue("status", transaction.getStatus())
+                .addValue("reference", transaction.getReference())
+                .addValue("amount", transaction.getAmount())
+                .addValue("transactionDate", transaction.getTransactionDate())
+                .addValue("createdAt", transaction.getCreatedAt())
+                .addValue("updatedAt", transaction.getUpdatedAt());
+        TransactionChangedEvent event = writeTransaction.execute(status -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbc.update("INSERT INTO financial_transactions " +
+                            "(payment_id, user_id, service, status, reference, amount, transaction_date, created_at, updated_at) " +
+                            "VALUES (:paymentId, :userId, :service, :status, :reference, :amount, :transactionDate, :createdAt, :updatedAt)",
+                    params, keyHolder, new String[]{"id"});
+            transaction.setId(keyHolder.getKey().longValue());
+            jdbc.batchUpdate(INSERT_GRAM,
+                    transaction.getSearchGrams().stream()
+                            .map(gram -> new MapSqlParameterSource("id", transaction.getId()).addValue("gram", gram))
+                            .toArray(SqlParameterSource[]::new));
+            return TransactionChangedEvent.of(TransactionChangedEvent.ChangeType.INSERT, shard, transaction);
+        });
+        // Plain JDBC bypasses the JPA entity listener, so the change is published here, after the commit
+        eventPublisher.publishEvent(event);
+        return transaction;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return jdbc.getJdbcTemplate().queryForList("SELECT id FROM financial_transactions LIMIT 1", Long.class).isEmpty();
+    }
+
+    @Override
+    public long backfillSearchGrams(long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        List<SqlParameterSource> grams = new ArrayList<>();
+        long[] lastId = {-1L};
+        jdbc.query("SELECT id, reference, payment_id FROM financial_transactions ft WHERE id > :afterId " +
+                        "AND NOT EXISTS (SELECT 1 FROM financial_transaction_grams g WHERE g.transaction_id = ft.id) " +
+                        "ORDER BY id LIMIT :limit",
+                params, (RowCallbackHandler) rs -> {
+                    lastId[0] = rs.getLong("id");
+                    for (String gram : SearchGrams.forTransaction(rs.getString("reference"), rs.getString("payment_id"))) {
+                        grams.add(new MapSqlParameterSource("id", lastId[0]).addValue("gram", gram));
+                    }
+                });
+        jdbc.batchUpdate(INSERT_GRAM, grams.toArray(SqlParameterSource[]::new));
+        return lastId[0];
+    }
+
+    /**
+     * Closes the shard's connection pool, if the data source owns one.
+     */
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static String buildWhereClause(TransactionFilterRequest request, MapSqlParameterSource params) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (request.getDateFrom() != null) {
+            where.add("transaction_date >= :dateFrom");
+            params.addValue("dateFrom", request.getDateFrom());
+        }
+        if (request.getDateTo() != null) {
+            where.add("transaction_date <= :dateTo");
+            params.addValue("dateTo", request.getDateTo());
+        }
+        addEquals(where, params, "user_id", "userId", request.getUserId());
+        addEquals(where, params, "service", "service", request.getService());
+        addEquals(where, params, "status", "status", request.getStatus());
+        addEquals(where, params, "reference", "reference", request.getReference());
+
+        TextSearchCriteria search = TextSearchCriteria.of(request);
+        if (search.referencePrefix() != null) {
+            where.add("reference >= :referencePrefix AND reference < :referencePrefixEnd");
+            params.addValue("referencePrefix", search.referencePrefix());
+            params.addValue("referencePrefixEnd", search.referencePrefixEnd());
+        }
+        if (search.referencePattern() != null) {
+            where.add("reference LIKE :referencePattern ESCAPE '!'");
+            params.addValue("referencePattern", search.referencePattern());
+        }
+        if (search.paymentIdPattern() != null) {
+            where.add("payment_id LIKE :paymentIdPattern ESCAPE '!'");
+            params.addValue("paymentIdPattern", search.paymentIdPattern());
+        }
+        if (search.hasGrams()) {
+            where.add("id IN (SELECT transaction_id FROM financial_transaction_grams WHERE gram IN (:grams) " +
+                    "GROUP BY transaction_id HAVING COUNT(*) = :gramCount)");
+            params.addValue("grams", search.grams());
+            params.addValue("gramCount", search.gramCount());
+        }
+        return where.toString();
+    }
+
+    private static void addEquals(StringJoiner where, MapSqlParameterSource params,
+                                  String column, String name, String value) {
+        if (value != null) {
+            where.add(column + " = :" + name);
+            params.addValue(name, value);
+        }
+    }
+
+    private static String buildOrderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "").setEmptyValue("");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported shard sort property: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isDescending() ? " DESC" : " ASC"));
+        }
+        return orderBy.toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
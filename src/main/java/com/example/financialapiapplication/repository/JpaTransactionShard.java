@@ -0,0 +1,91 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.ServiceCode;
+import com.example.financialapiapplication.model.StatusCode;
+import com.example.financialapiapplication.model.TransactionRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The application's own database as a shard, through the JPA repository.
+ * Reads run in a read-only transaction of their own when called from a
+ * scatter-gather worker thread, so they are routed to a replica like any other
+ * read-only query; on the caller's thread they join its transaction.
+ */
+public class JpaTransactionShard implements TransactionShard {
+
+    private final FinancialTransactionRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public JpaTransactionShard(FinancialTransactionRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public Page<TransactionRow> findRows(TransactionFilterRequest request, Pageable pageable) {
+        return readOnlyTransaction.execute(status -> queryRows(request, pageable));
+    }
+
+    private Page<TransactionRow> queryRows(TransactionFilterRequest request, Pageable pageable) {
+        TextSearchCriteria search = TextSearchCriteria.of(request);
+        if (search.hasGrams()) {
+            return repository.searchRowsWithFilters(
+                    request.getDateFrom(),
+                    request.getDateTo(),
+                    request.getUserId(),
+                    ServiceCode.of(request.getService()),
+                    StatusCode.of(request.getStatus()),
+                    request.getReference(),
+                    search,
+                    pageable
+            );
+        }
+        return repository.findRowsWithFilters(
+                request.getDateFrom(),
+                request.getDateTo(),
+                request.getUserId(),
+                ServiceCode.of(request.getService()),
+                StatusCode.of(request.getStatus()),
+                request.getReference(),
+                search,
+                pageable
+        );
+    }
+
+    @Override
+    public List<TransactionRow> findBatchSince(LocalDateTime from, long afterId, int limit) {
+        return readOnlyTransaction.execute(status -> repository.findBatchSince(from, afterId, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public FinancialTransaction save(FinancialTransaction transaction) {
+        return repository.save(transaction);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readOnlyTransaction.execute(status -> repository.count() == 0);
+    }
+
+    @Override
+    public long backfillSearchGrams(long afterId, int limit) {
+        return writeTransaction.execute(status -> {
+            List<Long> ids = repository.findIdsWithoutSearchGrams(afterId, PageRequest.of(0, limit));
+            // Dirty checking writes the grams when the transaction commits
+            repository.findAllById(ids).forEach(FinancialTransaction::refreshSearchGrams);
+            return ids.isEmpty() ? -1L : ids.get(ids.size() - 1);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.model.PaymentSnapshot;
+import com.example.financialapiapplication.model.StatusCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the local payment snapshots.
+ */
+@Repository
+public interface PaymentSnapshotRepository extends JpaRepository<PaymentSnapshot, String> {
+
+    /**
+     * Snapshots the sync job should refresh: non-terminal ones synced before
+     * {@code pendingBefore} and any synced before {@code staleBefore}.
+     */
+    String DUE_CLAUSE = " WHERE ((s.status IS NULL OR s.status NOT IN :terminal) AND s.syncedAt < :pendingBefore)" +
+           " OR s.syncedAt < :staleBefore";
+
+    String UNSYNCED_CLAUSE = " FROM FinancialTransaction ft WHERE ft.paymentId IS NOT NULL AND NOT EXISTS (" +
+           "SELECT 1 FROM PaymentSnapshot s WHERE s.paymentId = ft.paymentId)";
+
+    /**
+     * Id and payment id of a local transaction.
+     */
+    interface TransactionPayment {
+        Long getId();
+
+        String getPaymentId();
+    }
+
+    /**
+     * Local transactions after the given id, in id order. The sync job keeps the
+     * last id it has handled, so each run reads a primary-key range instead of
+     * scanning the whole table for payments without a snapshot.
+     */
+    @Query("SELECT ft.id AS id, ft.paymentId AS paymentId FROM FinancialTransaction ft " +
+           "WHERE ft.id > :afterId ORDER BY ft.id")
+    List<TransactionPayment> findTransactionsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Returns the given payment ids that already have a snapshot.
+     */
+    @Query("SELECT s.paymentId FROM PaymentSnapshot s WHERE s.paymentId IN :paymentIds")
+    List<String> findExistingPaymentIds(@Param("paymentIds") Collection<String> paymentIds);
+
+    /**
+     * Local payments without a snapshot. Scans the whole table, so it only feeds
+     * the backlog gauge, on its own slower schedule.
+     */
+    @Query("SELECT COUNT(DISTINCT ft.paymentId)" + UNSYNCED_CLAUSE)
+    long countUnsyncedPayments();
+
+    /**
+     * Payment ids of due snapshots, least recently synced first.
+     */
+    @Query("SELECT s.paymentId FROM PaymentSnapshot s" + DUE_CLAUSE + " ORDER BY s.syncedAt")
+    List<String> findDuePaymentIds(
+            @Param("terminal") Collection<StatusCode> terminal,
+            @Param("pendingBefore") LocalDateTime pendingBefore,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            Pageable pageable);
+
+    @Query("SELECT MIN(s.syncedAt) FROM PaymentSnapshot s" + DUE_CLAUSE)
+    Optional<LocalDateTime> findOldestDueSync(
+            @Param("terminal") Collection<StatusCode> terminal,
+            @Param("pendingBefore") LocalDateTime pendingBefore,
+            @Param("staleBefore") LocalDateTime staleBefore);
+}
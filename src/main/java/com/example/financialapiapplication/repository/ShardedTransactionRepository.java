@@ -0,0 +1,201 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.config.DataSourceRoutingContext;
+import com.example.financialapiapplication.diagnostics.SortMergeEvent;
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.TransactionRow;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sharded layer over the transaction stores, partitioned by a hash of userId.
+ * Queries with a userId go to exactly one shard. Other queries are sent to all
+ * shards in parallel; each returns its first offset + limit rows in the
+ * requested sort, and those sorted runs are merged to cut out the requested
+ * page. Totals are summed, so pagination links stay correct.
+ * Shard queries run on a bounded elastic pool sized for the given number of
+ * concurrent scatter-gather requests; when it is saturated the calling thread
+ * queries the shard itself instead of queueing behind other requests.
+ */
+public class ShardedTransactionRepository implements DisposableBean {
+
+    private final List<TransactionShard> shards;
+    private final ExecutorService executor;
+
+    public ShardedTransactionRepository(List<TransactionShard> shards) {
+        this(shards, 10);
+    }
+
+    /**
+     * @param maxConcurrentQueries scatter-gather requests served in parallel before
+     *                             callers start running shard queries themselves
+     */
+    public ShardedTransactionRepository(List<TransactionShard> shards, int maxConcurrentQueries) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (maxConcurrentQueries < 1) {
+            throw new IllegalArgumentException("maxConcurrentQueries must be positive");
+        }
+        this.shards = List.copyOf(shards);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(shards.size(), shards.size() * maxConcurrentQueries,
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), new CustomizableThreadFactory("shard-query-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    /**
+     * Returns the index of the shard owning the given user's transactions.
+     */
+    public int shardFor(String userId) {
+        int hash = userId.hashCode();
+        // Spread the bits so similar ids (USER001, USER002, ...) do not cluster
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        return Math.floorMod(hash, shards.size());
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Returns the shards in shard-number order; shard 0 is the application's own database.
+     */
+    public List<TransactionShard> getShards() {
+        return shards;
+    }
+
+    public Page<Payment> findPayments(TransactionFilterRequest request, Pageable pageable) {
+        return findRows(request, pageable).map(TransactionRow::payment);
+    }
+
+    public Page<TransactionRow> findRows(TransactionFilterRequest request, Pageable pageable) {
+        if (request.getUserId() != null) {
+            return shards.get(shardFor(request.getUserId())).findRows(request, pageable);
+        }
+        return scatterGather(request, pageable);
+    }
+
+    /**
+     * Returns true when no shard holds any transactions.
+     */
+    public boolean isEmpty() {
+        return shards.stream().allMatch(TransactionShard::isEmpty);
+    }
+
+    /**
+     * Stores a transaction on the shard that owns its user.
+     */
+    public FinancialTransaction save(FinancialTransaction transaction) {
+        return shards.get(shardFor(transaction.getUserId())).save(transaction);
+    }
+
+    private Page<TransactionRow> scatterGather(TransactionFilterRequest request, Pageable pageable) {
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        // Any row of the requested page is among the first offset + limit rows of its shard
+        Pageable head = PageRequest.of(0, Math.toIntExact(Math.addExact(offset, limit)), pageable.getSort());
+
+        List<CompletableFuture<Page<TransactionRow>>> futures = new ArrayList<>(shards.size());
+        for (TransactionShard shard : shards) {
+            // Worker threads do not share the caller's transaction, so its routing is carried over
+            futures.add(CompletableFuture.supplyAsync(
+                    DataSourceRoutingContext.propagate(() -> shard.findRows(request, head)), executor));
+        }
+
+        long total = 0;
+        List<Page<TransactionRow>> pages = new ArrayList<>(futures.size());
+        for (CompletableFuture<Page<TransactionRow>> future : futures) {
+            Page<TransactionRow> page = join(future);
+            total += page.getTotalElements();
+            pages.add(page);
+        }
+
+        SortMergeEvent event = new SortMergeEvent();
+        event.begin();
+        long inputRows = 0;
+        Comparator<TransactionRow> comparator = TransactionRow.comparator(pageable.getSort());
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.current(), b.current()));
+        for (Page<TransactionRow> page : pages) {
+            inputRows += page.getNumberOfElements();
+            if (page.hasContent()) {
+                heads.add(new Cursor(page.getContent()));
+            }
+        }
+
+        List<TransactionRow> content = new ArrayList<>(limit);
+        for (long position = 0; position < offset + limit && !heads.isEmpty(); position++) {
+            Cursor cursor = heads.poll();
+            if (position >= offset) {
+                content.add(cursor.current());
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        event.finish("shards", pageable.getSort().toString(), inputRows, content.size());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the query pool and closes the shards that own a connection pool.
+     */
+    @Override
+    public void destroy() throws Exception {
+        executor.shutdown();
+        for (TransactionShard shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Cursor {
+
+        private final List<TransactionRow> rows;
+        private int index;
+
+        private Cursor(List<TransactionRow> rows) {
+            this.rows = rows;
+        }
+
+        TransactionRow current() {
+            return rows.get(index);
+        }
+
+        boolean advance() {
+            return ++index < rows.size();
+        }
+    }
+}
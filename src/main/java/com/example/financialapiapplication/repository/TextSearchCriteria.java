@@ -0,0 +1,91 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.SearchGrams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partial-match filters of a request, translated into query parameters.
+ * A reference prefix becomes an index range on the reference column; substring
+ * terms become escaped LIKE patterns plus the trigram keys every match must have,
+ * so substring search relies on every row's grams being stored (see
+ * {@code SearchGramBackfillJob} for rows written before they were).
+ */
+public record TextSearchCriteria(String referencePrefix,
+                                 String referencePrefixEnd,
+                                 String referencePattern,
+                                 String paymentIdPattern,
+                                 List<String> grams) {
+
+    public static final TextSearchCriteria NONE = new TextSearchCriteria(null, null, null, null, List.of());
+
+    private static final char LIKE_ESCAPE = '!';
+
+    public static TextSearchCriteria of(TransactionFilterRequest request) {
+        String prefix = emptyToNull(request.getReferencePrefix());
+        String referenceContains = emptyToNull(request.getReferenceContains());
+        String paymentIdContains = emptyToNull(request.getPaymentIdContains());
+        if (prefix == null && referenceContains == null && paymentIdContains == null) {
+            return NONE;
+        }
+
+        List<String> grams = new ArrayList<>(SearchGrams.of(SearchGrams.REFERENCE, referenceContains));
+        grams.addAll(SearchGrams.of(SearchGrams.PAYMENT_ID, paymentIdContains));
+        return new TextSearchCriteria(
+                prefix,
+                // Every string starting with the prefix sorts below prefix + U+FFFF
+                prefix != null ? prefix + Character.MAX_VALUE : null,
+                containsPattern(referenceContains),
+                containsPattern(paymentIdContains),
+                List.copyOf(grams));
+    }
+
+    /**
+     * True when the gram index can narrow the candidates; terms shorter than a
+     * trigram are checked by their LIKE pattern alone.
+     */
+    public boolean hasGrams() {
+        return !grams.isEmpty();
+    }
+
+    public long gramCount() {
+        return grams.size();
+    }
+
+    /**
+     * In-memory equivalent of the partial-match filters, for rows that are not read
+     * through a query.
+     */
+    public static boolean matches(TransactionFilterRequest request, String reference, String paymentId) {
+        return matches(reference, emptyToNull(request.getReferencePrefix()), true)
+                && matches(reference, emptyToNull(request.getReferenceContains()), false)
+                && matches(paymentId, emptyToNull(request.getPaymentIdContains()), false);
+    }
+
+    private static boolean matches(String value, String term, boolean prefix) {
+        if (term == null) {
+            return true;
+        }
+        return value != null && (prefix ? value.startsWith(term) : value.contains(term));
+    }
+
+    private static String containsPattern(String term) {
+        if (term == null) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (char c : term.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.TransactionRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Store of archived (cold) transactions on local disk.
+ * Each closed month is written as one or more immutable, gzip-compressed
+ * newline-delimited JSON segment files named {@code transactions-YYYY-MM.<part>.ndjson.gz}.
+ * Segments are never rewritten; a month archived twice simply gains another
+ * part, and rows are de-duplicated by id when read. Recently read months are
+ * cached up to {@code financial.archive.cache-max-rows} rows in total; larger
+ * months are always streamed from disk.
+ */
+@Repository
+public class TransactionArchive {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("transactions-(\\d{4}-\\d{2})\\.(\\d+)\\.ndjson\\.gz");
+
+    private final Path directory;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int cacheMaxRows;
+
+    private final NavigableMap<YearMonth, List<Path>> segments = new ConcurrentSkipListMap<>();
+    // Access-ordered so the least recently read month is evicted first; guarded by itself
+    private final LinkedHashMap<YearMonth, List<TransactionRow>> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private int cachedRows;
+
+    @Autowired
+    public TransactionArchive(@Value("${financial.archive.directory:data/archive}") Path directory,
+                              @Value("${financial.archive.cache-max-rows:100000}") int cacheMaxRows,
+                              ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.reader = objectMapper.readerFor(TransactionRow.class);
+        this.writer = objectMapper.writerFor(TransactionRow.class);
+        this.cacheMaxRows = cacheMaxRows;
+        scanDirectory();
+    }
+
+    /**
+     * Returns the most recent archived month, if any.
+     */
+    public Optional<YearMonth> getLatestArchivedMonth() {
+        return segments.isEmpty() ? Optional.empty() : Optional.of(segments.lastKey());
+    }
+
+    /**
+     * Returns true when the archive may hold rows for the request's date range.
+     * Months outside the range are pruned without being read.
+     */
+    public boolean overlaps(TransactionFilterRequest request) {
+        return !monthsFor(request).isEmpty();
+    }
+
+    /**
+     * Streams archived rows in the request's date range to the consumer, oldest
+     * month first. Only months overlapping the range are read, one line at a time,
+     * so memory use is bounded by what the consumer keeps; other filters are left
+     * to the consumer.
+     */
+    public void forEachInRange(TransactionFilterRequest request, Consumer<TransactionRow> consumer) {
+        for (YearMonth month : monthsFor(request).keySet()) {
+            readMonth(month, consumer);
+        }
+    }
+
+    /**
+     * Opens a new immutable segment for the given month.
+     * Nothing becomes visible to readers until {@link SegmentWriter#commit()} is called.
+     */
+    public SegmentWriter openSegment(YearMonth month) {
+        try {
+            Files.createDirectories(directory);
+            int part = segments.getOrDefault(month, List.of()).size() + 1;
+            Path target = directory.resolve("transactions-" + month + "." + part + ".ndjson.gz");
+            Path temp = Files.createTempFile(directory, "segment-", ".tmp");
+            return new SegmentWriter(month, temp, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open archive segment for " + month, e);
+        }
+    }
+
+    private NavigableMap<YearMonth, List<Path>> monthsFor(TransactionFilterRequest request) {
+        if (segments.isEmpty()) {
+            return segments;
+        }
+        YearMonth from = request.getDateFrom() != null ? YearMonth.from(request.getDateFrom()) : segments.firstKey();
+        YearMonth to = request.getDateTo() != null ? YearMonth.from(request.getDateTo()) : segments.lastKey();
+        if (from.isAfter(to)) {
+            return Collections.emptyNavigableMap();
+        }
+        return segments.subMap(from, true, to, true);
+    }
+
+    /**
+     * Replays a cached month, or streams its segments while collecting rows for the
+     * cache until the month turns out to be larger than the whole cache budget.
+     */
+    private void readMonth(YearMonth month, Consumer<TransactionRow> consumer) {
+        List<TransactionRow> cached;
+        synchronized (cache) {
+            cached = cache.get(month);
+        }
+        if (cached != null) {
+            cached.forEach(consumer);
+            return;
+        }
+        // Rows are de-duplicated by id across the month's parts; only the ids are kept
+        Set<Long> seen = new HashSet<>();
+        List<TransactionRow> collected = new ArrayList<>();
+        for (Path segment : segments.getOrDefault(month, List.of())) {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    TransactionRow row = reader.readValue(line);
+                    if (!seen.add(row.id())) {
+                        continue;
+                    }
+                    consumer.accept(row);
+                    if (collected != null) {
+                        collected.add(row);
+                        if (collected.size() > cacheMaxRows) {
+                            collected = null;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read archive segment " + segment, e);
+            }
+        }
+        if (collected != null) {
+            cacheMonth(month, List.copyOf(collected));
+        }
+    }
+
+    private void cacheMonth(YearMonth month, List<TransactionRow> rows) {
+        synchronized (cache) {
+            List<TransactionRow> previous = cache.put(month, rows);
+            cachedRows += rows.size() - (previous != null ? previous.size() : 0);
+            Iterator<List<TransactionRow>> eldest = cache.values().iterator();
+            while (cachedRows > cacheMaxRows && eldest.hasNext()) {
+                cachedRows -= eldest.next().size();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void scanDirectory() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.sorted().forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    addSegment(YearMonth.parse(matcher.group(1)), file);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot scan archive directory " + directory, e);
+        }
+    }
+
+    private void addSegment(YearMonth month, Path file) {
+        segments.compute(month, (key, parts) -> {
+            List<Path> updated = parts == null ? new ArrayList<>() : new ArrayList<>(parts);
+            updated.add(file);
+            return List.copyOf(updated);
+        });
+        synchronized (cache) {
+            List<TransactionRow> previous = cache.remove(month);
+            cachedRows -= previous != null ? previous.size() : 0;
+        }
+    }
+
+    /**
+     * Streams rows into a segment file and publishes it atomically on commit.
+     */
+    public final class SegmentWriter implements Closeable {
+
+        private final YearMonth month;
+        private final Path temp;
+        private final Path target;
+        private final BufferedWriter out;
+        private long rowCount;
+        private boolean committed;
+
+        private SegmentWriter(YearMonth month, Path temp, Path target) throws IOException {
+            this.month = month;
+            this.temp = temp;
+            this.target = target;
+            this.out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8));
+        }
+
+        public void append(TransactionRow row) {
+            if (!YearMonth.from(row.transactionDate()).equals(month)) {
+                throw new IllegalArgumentException("Row " + row.id() + " does not belong to " + month);
+            }
+            try {
+                out.write(writer.writeValueAsString(row));
+                out.newLine();
+                rowCount++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write archive segment " + target, e);
+            }
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Flushes the segment, marks it read-only and makes it visible to readers.
+         */
+        public void commit() {
+            try {
+                out.close();
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                target.toFile().setReadOnly();
+                addSegment(month, target);
+                committed = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot commit archive segment " + target, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+            try {
+                out.close();
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot discard archive segment " + target, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.TransactionRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One shard of the financial_transactions table.
+ * Follows Interface Segregation Principle - only what the sharded layer needs.
+ */
+public interface TransactionShard {
+
+    /**
+     * Returns one sorted page of matching rows and the shard-local total.
+     */
+    Page<TransactionRow> findRows(TransactionFilterRequest request, Pageable pageable);
+
+    /**
+     * Returns up to limit rows dated at or after from with an id above afterId,
+     * in id order, for keyset-paginated bulk reads.
+     */
+    List<TransactionRow> findBatchSince(LocalDateTime from, long afterId, int limit);
+
+    FinancialTransaction save(FinancialTransaction transaction);
+
+    /**
+     * Returns true when the shard holds no transactions.
+     */
+    boolean isEmpty();
+
+    /**
+     * Stores the search grams of up to limit rows with an id above afterId that have
+     * none, and returns the last id examined, or -1 when no such rows are left.
+     */
+    long backfillSearchGrams(long afterId, int limit);
+}
@@ -1,32 +1,76 @@
 package com.example.financialapiapplication.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Abstract base service class providing common functionality.
  * Demonstrates inheritance and code reuse principles.
  */
 public abstract class BaseService {
 
+    private static final Duration ERROR_LOG_INTERVAL = Duration.ofSeconds(10);
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ErrorLogThrottle errorLogThrottle = new ErrorLogThrottle(ERROR_LOG_INTERVAL);
+
     protected <T> Mono<T> handleWebClientError(WebClientResponseException error, T defaultValue) {
-        // Log the error for debugging
-        System.err.println("WebClient error: " + error.getMessage());
+        logWebClientError(error);
         return Mono.just(defaultValue);
     }
     
+    /**
+     * Logs the error and completes empty, leaving the fallback to the caller.
+     */
+    protected <T> Mono<T> handleWebClientError(WebClientResponseException error) {
+        logWebClientError(error);
+        return Mono.empty();
+    }
+    
+    private void logWebClientError(WebClientResponseException error) {
+        // Identical failures during a backend outage are sampled so logging does not add contention
+        String errorType = "WebClientResponseException:" + error.getStatusCode().value();
+        long suppressed = errorLogThrottle.tryAcquire(errorType);
+        if (suppressed != ErrorLogThrottle.SUPPRESSED) {
+            log.atWarn()
+                    .addKeyValue("errorType", errorType)
+                    .addKeyValue("status", error.getStatusCode().value())
+                    .addKeyValue("suppressed", suppressed)
+                    .log("WebClient error: {}", error.getMessage());
+        }
+    }
+    
     /**
      * Common validation method for service parameters.
      */
     protected boolean isValidParameter(String parameter) {
         return parameter != null && !parameter.trim().isEmpty();
     }
-    
+
     /**
      * Common method to create error response.
      */
     protected <T> Mono<T> createErrorResponse(String errorMessage) {
-        System.err.println("Service error: " + errorMessage);
+        long suppressed = errorLogThrottle.tryAcquire(errorMessage);
+        if (suppressed != ErrorLogThrottle.SUPPRESSED) {
+            log.atError()
+                    .addKeyValue("errorType", errorMessage)
+                    .addKeyValue("suppressed", suppressed)
+                    .log("Service error: {}", errorMessage);
+        }
         return Mono.error(new RuntimeException(errorMessage));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Returns the number of errors seen per error type, including suppressed ones.
+     */
+    public Map<String, Long> getErrorCounts() {
+        return errorLogThrottle.getCounts();
+    }
+}
\ No newline at end of file
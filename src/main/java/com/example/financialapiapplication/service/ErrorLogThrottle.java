@@ -0,0 +1,80 @@
+package com.example.financialapiapplication.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter for repeated error log lines.
+ * Counts every occurrence per error type, but lets at most one line per type
+ * through in each interval and reports how many were suppressed in between.
+ */
+public class ErrorLogThrottle {
+
+    /** Returned by {@link #tryAcquire(String)} when the line should be dropped. */
+    public static final long SUPPRESSED = -1L;
+
+    static final int MAX_TRACKED_TYPES = 1024;
+
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, ErrorType> errorTypes = new ConcurrentHashMap<>();
+
+    public ErrorLogThrottle(Duration interval) {
+        this(interval, System::nanoTime);
+    }
+
+    ErrorLogThrottle(Duration interval, LongSupplier nanoClock) {
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records one occurrence of the given error type.
+     * Single Responsibility: Only decides whether this occurrence is logged.
+     *
+     * @return the number of occurrences suppressed since the last logged one,
+     *         or {@link #SUPPRESSED} if this occurrence should not be logged
+     */
+    public long tryAcquire(String errorType) {
+        ErrorType type = errorTypes.get(errorType);
+        if (type == null) {
+            if (errorTypes.size() >= MAX_TRACKED_TYPES) {
+                // Unbounded distinct keys would leak memory, so untracked types are always logged
+                return 0L;
+            }
+            type = errorTypes.computeIfAbsent(errorType, key -> new ErrorType());
+        }
+        return type.tryAcquire(nanoClock.getAsLong(), intervalNanos);
+    }
+
+    /**
+     * Returns the total number of occurrences seen per error type.
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errorTypes.forEach((key, type) -> counts.put(key, type.total.sum()));
+        return counts;
+    }
+
+    private static final class ErrorType {
+
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicLong lastLoggedAt = new AtomicLong(Long.MIN_VALUE);
+
+        long tryAcquire(long now, long intervalNanos) {
+            total.increment();
+            long last = lastLoggedAt.get();
+            if ((last == Long.MIN_VALUE || now - last >= intervalNanos) && lastLoggedAt.compareAndSet(last, now)) {
+                return suppressed.getAndSet(0L);
+            }
+            suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+    }
+}
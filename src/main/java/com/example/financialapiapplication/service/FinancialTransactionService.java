@@ -2,22 +2,23 @@ package com.example.financialapiapplication.service;
 
 import com.example.financialapiapplication.dto.DataListPaymentResponse;
 import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.PaymentEnrichment;
 import com.example.financialapiapplication.dto.TransactionFilterRequest;
-import com.example.financialapiapplication.model.FinancialTransaction;
-import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.hateoas.Link;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class responsible for handling financial transaction business logic.
@@ -26,17 +27,23 @@ import java.util.List;
 @Service
 public class FinancialTransactionService {
     
-    private final FinancialTransactionRepository repository;
+    private final TransactionQueryService queryService;
     private final PaymentService paymentService;
     private final HateoasLinkService hateoasLinkService;
+    private final PaymentSnapshotStore snapshotStore;
+    private final Duration streamItemTimeout;
     
     @Autowired
-    public FinancialTransactionService(FinancialTransactionRepository repository, 
+    public FinancialTransactionService(TransactionQueryService queryService, 
                                      PaymentService paymentService,
-                                     HateoasLinkService hateoasLinkService) {
-        this.repository = repository;
+                                     HateoasLinkService hateoasLinkService,
+                                     ObjectProvider<PaymentSnapshotStore> snapshotStore,
+                                     @Value("${financial.payments.stream-item-timeout:500ms}") Duration streamItemTimeout) {
+        this.queryService = queryService;
         this.paymentService = paymentService;
         this.hateoasLinkService = hateoasLinkService;
+        this.snapshotStore = snapshotStore.getIfAvailable();
+        this.streamItemTimeout = streamItemTimeout;
     }
     
     /**
@@ -47,22 +54,47 @@ public class FinancialTransactionService {
         // Step 1: Create Pageable Object
         Pageable pageable = createPageable(request);
         
-        // Step 2: Retrieve Financial Transactions
-        Page<FinancialTransaction> transactionPage = retrieveTransactions(request, pageable);
+        // Step 2: Retrieve Financial Transactions (projected straight into payments)
+        Page<Payment> transactionPage = retrieveTransactions(request, pageable);
         
         // Step 3: Extract and Transform Data
-        Flux<FinancialTransaction> transactionFlux = Flux.fromIterable(transactionPage.getContent());
+        Flux<Payment> transactionFlux = Flux.fromIterable(transactionPage.getContent());
+        Map<String, PaymentEnrichment> snapshots = findSnapshots(transactionPage);
         
-        // Step 4: Process Each Financial Transaction
-        return processTransactions(transactionFlux)
+        // Step 4: Process Each Financial Transaction (in page order, already sorted by the query)
+        return processTransactions(transactionFlux, snapshots)
                 .collectList()
-                .map(payments -> {
-                    // Step 5: Sort Payments
-                    sortPayments(payments);
-                    
-                    // Step 6: Create Response Object
-                    return createResponse(payments, request, transactionPage);
-                });
+                // Step 5: Create Response Object
+                .map(payments -> createResponse(payments, request, transactionPage));
+    }
+    
+    /**
+     * Streaming variant of {@link #getTransactionsWithFilters}.
+     * Emits each enriched payment as soon as its lookup finishes, followed by the
+     * links. A lookup that misses the per-item deadline falls back to the
+     * transaction data. Event ids carry the row position so clients can restore
+     * page order.
+     */
+    public Flux<ServerSentEvent<?>> streamTransactionsWithFilters(TransactionFilterRequest request) {
+        return Flux.defer(() -> {
+            Pageable pageable = createPageable(request);
+            Page<Payment> transactionPage = retrieveTransactions(request, pageable);
+            Map<String, PaymentEnrichment> snapshots = findSnapshots(transactionPage);
+            
+            Flux<ServerSentEvent<?>> payments = Flux.fromIterable(transactionPage.getContent())
+                    .index()
+                    .flatMap(indexed -> enrichPayment(indexed.getT2(), snapshots)
+                            .timeout(streamItemTimeout, Mono.just(indexed.getT2()))
+                            .map(payment -> ServerSentEvent.builder(payment)
+                                    .id(String.valueOf(request.getOffset() + indexed.getT1()))
+                                    .event("payment")
+                                    .build()));
+            Mono<ServerSentEvent<?>> links = Mono.fromSupplier(() -> ServerSentEvent
+                    .builder(hateoasLinkService.createLinks(request, transactionPage))
+                    .event("links")
+                    .build());
+            return payments.concatWith(links);
+        });
     }
     
     /**
@@ -75,81 +107,62 @@ public class FinancialTransactionService {
     }
     
     /**
-     * Retrieves transactions from the repository with filters.
+     * Retrieves transactions from the read-only query path with filters.
      * Single Responsibility: Only handles data retrieval.
      */
-    private Page<FinancialTransaction> retrieveTransactions(TransactionFilterRequest request, Pageable pageable) {
-        return repository.findTransactionsWithFilters(
-                request.getDateFrom(),
-                request.getDateTo(),
-                request.getUserId(),
-                request.getService(),
-                request.getStatus(),
-                request.getReference(),
-                pageable
-        );
-    }
-    
-    /**
-     * Processes each transaction by calling external service.
-     * Single Responsibility: Only handles transaction processing.
-     */
-    private Flux<Payment> processTransactions(Flux<FinancialTransaction> transactionFlux) {
-        return transactionFlux
-                .flatMap(transaction -> paymentService.retrievePayment(transaction.getPaymentId())
-                        .map(payment -> mapTransactionToPayment(transaction, payment))
-                        .onErrorResume(WebClientResponseException.class, error -> 
-                                handlePaymentError(transaction, error)));
+    private Page<Payment> retrieveTransactions(TransactionFilterRequest request, Pageable pageable) {
+        return queryService.findPayments(request, pageable);
     }
     
     /**
-     * Maps a financial transaction to a payment object.
-     * Single Responsibility: Only handles object mapping.
+     * Looks up the page's payments in the snapshot store, when enabled.
+     * Single Responsibility: Only handles the snapshot lookup.
      */
-    private Payment mapTransactionToPayment(FinancialTransaction transaction, Payment payment) {
-        payment.setId(transaction.getPaymentId());
-        payment.setUserId(transaction.getUserId());
-        payment.setService(transaction.getService());
-        payment.setStatus(transaction.getStatus());
-        payment.setReference(transaction.getReference());
-        payment.setAmount(transaction.getAmount());
-        payment.setCreatedAt(transaction.getCreatedAt());
-        payment.setUpdatedAt(transaction.getUpdatedAt());
-        return payment;
+    private Map<String, PaymentEnrichment> findSnapshots(Page<Payment> transactionPage) {
+        if (snapshotStore == null || transactionPage.isEmpty()) {
+            return Map.of();
+        }
+        return snapshotStore.findFresh(transactionPage.getContent().stream().map(Payment::id).toList());
     }
     
     /**
-     * Handles payment retrieval errors by creating a default payment.
-     * Single Responsibility: Only handles error recovery.
+     * Processes each transaction by calling external service.
+     * Only the backend-owned fields are fetched and merged onto the projected row;
+     * when the backend has nothing, the row is used unchanged. Lookups run
+     * concurrently but results are emitted in the database page order.
+     * Single Responsibility: Only handles transaction processing.
      */
-    private Mono<Payment> handlePaymentError(FinancialTransaction transaction, WebClientResponseException error) {
-        Payment defaultPayment = createDefaultPayment(transaction);
-        return Mono.just(defaultPayment);
+    private Flux<Payment> processTransactions(Flux<Payment> transactionFlux, Map<String, PaymentEnrichment> snapshots) {
+        return transactionFlux.flatMapSequential(transaction -> enrichPayment(transaction, snapshots));
     }
     
     /**
-     * Creates a default payment from transaction data.
-     * Single Responsibility: Only handles default object creation.
+     * Enriches a single transaction with the backend-owned payment fields, from a
+     * fresh snapshot when there is one and from the backend otherwise.
+     * Single Responsibility: Only handles the per-payment lookup and fallback.
      */
-    private Payment createDefaultPayment(FinancialTransaction transaction) {
-        Payment defaultPayment = new Payment();
-        defaultPayment.setId(transaction.getPaymentId());
-        defaultPayment.setUserId(transaction.getUserId());
-        defaultPayment.setService(transaction.getService());
-        defaultPayment.setStatus(transaction.getStatus());
-        defaultPayment.setReference(transaction.getReference());
-        defaultPayment.setAmount(transaction.getAmount());
-        defaultPayment.setCreatedAt(transaction.getCreatedAt());
-        defaultPayment.setUpdatedAt(transaction.getUpdatedAt());
-        return defaultPayment;
+    private Mono<Payment> enrichPayment(Payment transaction, Map<String, PaymentEnrichment> snapshots) {
+        PaymentEnrichment snapshot = snapshots.get(transaction.id());
+        if (snapshot != null) {
+            return Mono.just(transaction.withEnrichment(snapshot));
+        }
+        Mono<PaymentEnrichment> enrichment = paymentService.retrievePayment(transaction.id());
+        if (snapshotStore != null) {
+            enrichment = enrichment.doOnNext(fetched -> snapshotStore.record(transaction.id(), fetched));
+        }
+        return enrichment
+                .map(transaction::withEnrichment)
+                .defaultIfEmpty(transaction)
+                .onErrorResume(WebClientResponseException.class, error -> 
+                        handlePaymentError(transaction, error));
     }
     
     /**
-     * Sorts payments by payment ID in descending order.
-     * Single Responsibility: Only handles sorting logic.
+     * Handles payment retrieval errors by falling back to the transaction data.
+     * Single Responsibility: Only handles error recovery.
      */
-    private void sortPayments(List<Payment> payments) {
-        payments.sort(Comparator.comparing(Payment::getId).reversed());
+    private Mono<Payment> handlePaymentError(Payment transaction, WebClientResponseException error) {
+        return Mono.just(transaction);
     }
     
     /**
@@ -158,7 +171,7 @@ public class FinancialTransactionService {
      */
     private DataListPaymentResponse createResponse(List<Payment> payments, 
                                                  TransactionFilterRequest request, 
-                                                 Page<FinancialTransaction> transactionPage) {
+                                                 Page<Payment> transactionPage) {
         DataListPaymentResponse response = new DataListPaymentResponse();
         response.setData(payments);
         response.setLinks(hateoasLinkService.createLinks(request, transactionPage));
@@ -1,7 +1,6 @@
 package com.example.financialapiapplication.service;
 
 import com.example.financialapiapplication.dto.TransactionFilterRequest;
-import com.example.financialapiapplication.model.FinancialTransaction;
 import org.springframework.data.domain.Page;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
@@ -20,7 +19,7 @@ public class HateoasLinkService {
      * Creates HATEOAS links for the response.
      * Single Responsibility: Only handles link creation logic.
      */
-    public List<Link> createLinks(TransactionFilterRequest request, Page<FinancialTransaction> page) {
+    public List<Link> createLinks(TransactionFilterRequest request, Page<?> page) {
         List<Link> links = new ArrayList<>();
         
         // Self link
@@ -0,0 +1,104 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.event.TransactionChangedEvent;
+import com.example.financialapiapplication.model.TransactionRow;
+import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.HotWindowTransactionIndex;
+import com.example.financialapiapplication.repository.ShardedTransactionRepository;
+import com.example.financialapiapplication.repository.TransactionShard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps the hot-window index current: loads the window once the application is
+ * ready, applies committed changes and evicts rows that aged out.
+ * Single Responsibility: Only handles feeding the in-memory index.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.hot-index.enabled", havingValue = "true")
+public class HotWindowIndexMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(HotWindowIndexMaintainer.class);
+
+    private final HotWindowTransactionIndex index;
+    private final FinancialTransactionRepository repository;
+    private final ShardedTransactionRepository shardedRepository;
+    private final int batchSize;
+
+    @Autowired
+    public HotWindowIndexMaintainer(HotWindowTransactionIndex index,
+                                    FinancialTransactionRepository repository,
+                                    ObjectProvider<ShardedTransactionRepository> shardedRepository,
+                                    @Value("${financial.hot-index.warm-up-batch-size:5000}") int batchSize) {
+        this.index = index;
+        this.repository = repository;
+        this.shardedRepository = shardedRepository.getIfAvailable();
+        this.batchSize = batchSize;
+    }
+
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        index.apply(event);
+    }
+
+    /**
+     * Reads the current window from every store with keyset pagination on id and
+     * feeds the index one batch at a time, so neither the queries nor the memory
+     * held during the load grow with the window. Changes committed meanwhile reach
+     * the index through events, so the index only starts answering once the load
+     * has finished.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime from = index.windowStart();
+        if (shardedRepository != null) {
+            List<TransactionShard> shards = shardedRepository.getShards();
+            for (int shard = 0; shard < shards.size(); shard++) {
+                warmUp(shard, shards.get(shard)::findBatchSince, from);
+            }
+        } else {
+            warmUp(0, (since, afterId, limit) ->
+                    repository.findBatchSince(since, afterId, PageRequest.of(0, limit)), from);
+        }
+
+        index.finishWarmUp();
+        log.atInfo()
+                .addKeyValue("rows", index.size())
+                .addKeyValue("ready", index.isReady())
+                .log("Hot-window index loaded");
+    }
+
+    @Scheduled(fixedDelayString = "${financial.hot-index.eviction-interval:60000}")
+    public void evictExpired() {
+        index.evictExpired();
+    }
+
+    private void warmUp(int shard, BatchReader reader, LocalDateTime from) {
+        long afterId = 0L;
+        List<TransactionRow> batch;
+        do {
+            batch = reader.read(from, afterId, batchSize);
+            index.warmUp(shard, batch);
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @FunctionalInterface
+    private interface BatchReader {
+        List<TransactionRow> read(LocalDateTime from, long afterId, int limit);
+    }
+}
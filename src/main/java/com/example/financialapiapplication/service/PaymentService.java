@@ -1,11 +1,13 @@
 package com.example.financialapiapplication.service;
 
-import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.diagnostics.PaymentLookupEvent;
+import com.example.financialapiapplication.dto.PaymentEnrichment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 /**
  * Service responsible for payment-related operations.
@@ -14,38 +16,52 @@ import reactor.core.publisher.Mono;
  */
 @Service
 public class  PaymentService extends BaseService {
-    
+
     private final WebClient webClient;
-    
+
     @Autowired
     public PaymentService(WebClient webClient) {
         this.webClient = webClient;
     }
-    
+
     /**
-     * Retrieves payment information from external service.
+     * Retrieves the backend-owned payment fields from external service.
+     * Completes empty when the backend fails, so callers keep their own data
+     * without a placeholder object being allocated. Each call is recorded as a
+     * {@link PaymentLookupEvent} when Flight Recorder is capturing it.
      * Single Responsibility: Only handles payment retrieval.
      */
-    public Mono<Payment> retrievePayment(String paymentId) {
+    public Mono<PaymentEnrichment> retrievePayment(String paymentId) {
         if (!isValidParameter(paymentId)) {
             return createErrorResponse("Payment ID cannot be null or empty");
         }
-        
-        return webClient.get()
-                .uri("/payments/{paymentId}", paymentId)
-                .retrieve()
-                .bodyToMono(Payment.class)
-                .onErrorResume(WebClientResponseException.class, error -> 
-                        handleWebClientError(error, createDefaultPayment(paymentId)));
+
+        return Mono.defer(() -> {
+            PaymentLookupEvent event = new PaymentLookupEvent();
+            event.begin();
+            return webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/payments/{paymentId}")
+                            .queryParam("fields", PaymentEnrichment.FIELDS)
+                            .build(paymentId))
+                    .retrieve()
+                    .bodyToMono(PaymentEnrichment.class)
+                    .doOnNext(found -> event.outcome = "found")
+                    .doOnError(error -> event.outcome = "error")
+                    .onErrorResume(WebClientResponseException.class, this::handleWebClientError)
+                    .doFinally(signal -> recordLookup(event, paymentId, signal));
+        });
     }
-    
-    /**
-     * Creates a default payment when external service fails.
-     */
-    private Payment createDefaultPayment(String paymentId) {
-        Payment defaultPayment = new Payment();
-        defaultPayment.setId(paymentId);
-        defaultPayment.setStatus("UNKNOWN");
-        return defaultPayment;
+
+    private static void recordLookup(PaymentLookupEvent event, String paymentId, SignalType signal) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.paymentId = paymentId;
+            if (signal == SignalType.CANCEL) {
+                event.outcome = "cancelled";
+            } else if (event.outcome == null) {
+                event.outcome = signal == SignalType.ON_ERROR ? "error" : "empty";
+            }
+            event.commit();
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.dto.PaymentEnrichment;
+import com.example.financialapiapplication.model.PaymentSnapshot;
+import com.example.financialapiapplication.model.StatusCode;
+import com.example.financialapiapplication.repository.PaymentSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Local snapshots of the backend-owned payment fields, and the staleness policy
+ * deciding when one may be served instead of a backend lookup. Snapshots of
+ * terminal payments are served until they reach max-age; snapshots of other
+ * payments only until pending-max-age, which is zero by default.
+ * Backend results seen on the read path are buffered and saved by the next sync
+ * run, so payments served live once need no sync lookup of their own.
+ */
+public class PaymentSnapshotStore {
+
+    private final PaymentSnapshotRepository repository;
+    private final Set<StatusCode> terminalStatuses;
+    private final Duration maxAge;
+    private final Duration pendingMaxAge;
+    private final int maxPendingWrites;
+    private final Clock clock;
+    private final ConcurrentMap<String, PaymentSnapshot> pendingWrites = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter stale;
+    private final Counter misses;
+
+    public PaymentSnapshotStore(PaymentSnapshotRepository repository, Collection<String> terminalStatuses,
+                                Duration maxAge, Duration pendingMaxAge, int maxPendingWrites, MeterRegistry registry) {
+        this(repository, terminalStatuses, maxAge, pendingMaxAge, maxPendingWrites, registry, Clock.systemDefaultZone());
+    }
+
+    PaymentSnapshotStore(PaymentSnapshotRepository repository, Collection<String> terminalStatuses, Duration maxAge,
+                         Duration pendingMaxAge, int maxPendingWrites, MeterRegistry registry, Clock clock) {
+        this.repository = repository;
+        this.terminalStatuses = terminalStatuses.stream().map(StatusCode::of).collect(Collectors.toUnmodifiableSet());
+        this.maxAge = maxAge;
+        this.pendingMaxAge = pendingMaxAge;
+        this.maxPendingWrites = maxPendingWrites;
+        this.clock = clock;
+        this.hits = readCounter(registry, "hit");
+        this.stale = readCounter(registry, "stale");
+        this.misses = readCounter(registry, "miss");
+    }
+
+    private static Counter readCounter(MeterRegistry registry, String result) {
+        return Counter.builder("financial.snapshots.reads")
+                .tag("result", result)
+                .description("Payment enrichments looked up in the snapshot store")
+                .register(registry);
+    }
+
+    /**
+     * Returns the enrichment for every payment whose snapshot may be served;
+     * payments missing from the result need a backend lookup. One query per page.
+     */
+    public Map<String, PaymentEnrichment> findFresh(Collection<String> paymentIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, PaymentEnrichment> fresh = new HashMap<>();
+        int found = 0;
+        for (PaymentSnapshot snapshot : repository.findAllById(paymentIds)) {
+            found++;
+            if (isFresh(snapshot, now)) {
+                fresh.put(snapshot.getPaymentId(), snapshot.toEnrichment());
+            }
+        }
+        hits.increment(fresh.size());
+        stale.increment(found - fresh.size());
+        misses.increment(paymentIds.size() - found);
+        return fresh;
+    }
+
+    /**
+     * Buffers a backend result for the next sync run. Results beyond the buffer
+     * limit are dropped; the sync job looks those payments up itself.
+     */
+    public void record(String paymentId, PaymentEnrichment enrichment) {
+        if (pendingWrites.size() < maxPendingWrites) {
+            pendingWrites.put(paymentId, new PaymentSnapshot(paymentId, enrichment, LocalDateTime.now(clock)));
+        }
+    }
+
+    /**
+     * Saves the buffered backend results and returns how many were written.
+     */
+    public int flushPendingWrites() {
+        List<PaymentSnapshot> snapshots = new ArrayList<>(pendingWrites.size());
+        for (String paymentId : pendingWrites.keySet()) {
+            PaymentSnapshot snapshot = pendingWrites.remove(paymentId);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        repository.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    public Set<StatusCode> getTerminalStatuses() {
+        return terminalStatuses;
+    }
+
+    /** Non-terminal snapshots synced before this are no longer served. */
+    public LocalDateTime pendingBefore(LocalDateTime now) {
+        return now.minus(pendingMaxAge);
+    }
+
+    /** Snapshots synced before this are no longer served. */
+    public LocalDateTime staleBefore(LocalDateTime now) {
+        return now.minus(maxAge);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    private boolean isFresh(PaymentSnapshot snapshot, LocalDateTime now) {
+        String status = snapshot.getStatus();
+        boolean terminal = status != null && terminalStatuses.contains(StatusCode.of(status));
+        return snapshot.getSyncedAt().isAfter(terminal ? staleBefore(now) : pendingBefore(now));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.config.PaymentSnapshotProperties;
+import com.example.financialapiapplication.model.PaymentSnapshot;
+import com.example.financialapiapplication.repository.PaymentSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background job that keeps the payment snapshots filled. Each run saves the
+ * results buffered by the read path, then looks up one batch of payments: local
+ * transactions without a snapshot first, then due snapshots, least recently
+ * synced first. New transactions are found through a high-water mark on the
+ * transaction id, so a run reads one id range rather than the whole table; the
+ * mark starts at zero on startup and does not move past a failed lookup.
+ * Transactions on other shards, and ids committed out of order behind the mark,
+ * get their snapshots through the read path.
+ * Single Responsibility: Only handles syncing snapshots from the payment backend.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.snapshots.enabled", havingValue = "true")
+public class PaymentSnapshotSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentSnapshotSyncJob.class);
+
+    private final PaymentSnapshotStore store;
+    private final PaymentSnapshotRepository repository;
+    private final PaymentService paymentService;
+    private final int batchSize;
+    private final int concurrency;
+    private final Counter synced;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+    // Transactions up to this id have a snapshot or have been looked up; only touched by sync()
+    private long syncedThroughId;
+
+    @Autowired
+    public PaymentSnapshotSyncJob(PaymentSnapshotStore store,
+                                  PaymentSnapshotRepository repository,
+                                  PaymentService paymentService,
+                                  PaymentSnapshotProperties properties,
+                                  MeterRegistry registry) {
+        this.store = store;
+        this.repository = repository;
+        this.paymentService = paymentService;
+        this.batchSize = properties.getBatchSize();
+        this.concurrency = properties.getSyncConcurrency();
+        this.synced = Counter.builder("financial.snapshots.synced")
+                .description("Payment snapshots written from backend lookups")
+                .register(registry);
+        TimeGauge.builder("financial.snapshots.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time since the least recently synced due snapshot was synced")
+                .register(registry);
+        Gauge.builder("financial.snapshots.backlog", backlog, AtomicLong::get)
+                .description("Local payments without a snapshot")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${financial.snapshots.sync-interval:10000}")
+    public void sync() {
+        int flushed = store.flushPendingWrites();
+
+        LocalDateTime now = LocalDateTime.now(store.getClock());
+        List<PaymentSnapshotRepository.TransactionPayment> scanned =
+                repository.findTransactionsAfter(syncedThroughId, PageRequest.of(0, batchSize));
+        Map<String, Long> unsynced = new LinkedHashMap<>();
+        for (PaymentSnapshotRepository.TransactionPayment transaction : scanned) {
+            if (transaction.getPaymentId() != null) {
+                unsynced.putIfAbsent(transaction.getPaymentId(), transaction.getId());
+            }
+        }
+        if (!unsynced.isEmpty()) {
+            repository.findExistingPaymentIds(unsynced.keySet()).forEach(unsynced::remove);
+        }
+        List<String> paymentIds = new ArrayList<>(unsynced.keySet());
+        if (paymentIds.size() < batchSize) {
+            paymentIds.addAll(repository.findDuePaymentIds(store.getTerminalStatuses(), store.pendingBefore(now),
+                    store.staleBefore(now), PageRequest.of(0, batchSize - paymentIds.size())));
+        }
+
+        List<PaymentSnapshot> snapshots = Flux.fromIterable(paymentIds)
+                .flatMap(paymentId -> lookUp(paymentId, unsynced.containsKey(paymentId)), concurrency)
+                .collectList()
+                .block();
+        repository.saveAll(snapshots);
+        synced.increment(snapshots.size());
+        advanceHighWaterMark(scanned, unsynced, snapshots);
+
+        updateLag(LocalDateTime.now(store.getClock()));
+        log.atDebug()
+                .addKeyValue("flushed", flushed)
+                .addKeyValue("synced", snapshots.size())
+                .addKeyValue("backlog", backlog.get())
+                .addKeyValue("lagMs", lagMillis.get())
+                .log("Payment snapshots synced");
+    }
+
+    /**
+     * Fetches one payment from the backend. A new payment the backend has nothing
+     * for gets an empty snapshot, so it is retried as due rather than on every run;
+     * an existing snapshot is kept as it is. Failed lookups are retried next run.
+     */
+    private Mono<PaymentSnapshot> lookUp(String paymentId, boolean unsynced) {
+        return paymentService.retrievePayment(paymentId)
+                .map(enrichment -> new PaymentSnapshot(paymentId, enrichment, LocalDateTime.now(store.getClock())))
+                .switchIfEmpty(Mono.fromSupplier(() -> unsynced
+                        ? new PaymentSnapshot(paymentId, null, LocalDateTime.now(store.getClock())) : null))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    /**
+     * Counts local payments without a snapshot for the backlog gauge. The count
+     * scans the table, so it runs far less often than the sync itself.
+     */
+    @Scheduled(fixedDelayString = "${financial.snapshots.backlog-interval:300000}")
+    public void updateBacklog() {
+        backlog.set(repository.countUnsyncedPayments());
+    }
+
+    /**
+     * Moves the mark to the last scanned transaction, but stops short of the first
+     * one whose lookup failed so it is retried next run.
+     */
+    private void advanceHighWaterMark(List<PaymentSnapshotRepository.TransactionPayment> scanned,
+                                      Map<String, Long> unsynced, List<PaymentSnapshot> snapshots) {
+        if (scanned.isEmpty()) {
+            return;
+        }
+        long mark = scanned.get(scanned.size() - 1).getId();
+        Set<String> saved = new HashSet<>();
+        snapshots.forEach(snapshot -> saved.add(snapshot.getPaymentId()));
+        for (Map.Entry<String, Long> entry : unsynced.entrySet()) {
+            if (!saved.contains(entry.getKey())) {
+                mark = Math.min(mark, entry.getValue() - 1);
+            }
+        }
+        syncedThroughId = Math.max(syncedThroughId, mark);
+    }
+
+    private void updateLag(LocalDateTime now) {
+        lagMillis.set(repository.findOldestDueSync(store.getTerminalStatuses(), store.pendingBefore(now),
+                        store.staleBefore(now))
+                .map(oldest -> Duration.between(oldest, now).toMillis())
+                .orElse(0L));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.JpaTransactionShard;
+import com.example.financialapiapplication.repository.ShardedTransactionRepository;
+import com.example.financialapiapplication.repository.TransactionShard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One-off job that stores the search grams of rows written before substring
+ * search existed. The grams are only maintained on write, so without this pass
+ * such rows never match referenceContains or paymentIdContains. Each store is
+ * walked once by id in batches; rows that already have grams are skipped.
+ * Every run still reads the whole table, so the job is opt-in: enable it on a
+ * single instance for one start, then turn it off again. It runs on its own
+ * thread so a long pass does not hold up the scheduled jobs.
+ * Single Responsibility: Only handles filling in missing search grams.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.search.backfill-enabled", havingValue = "true")
+public class SearchGramBackfillJob implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchGramBackfillJob.class);
+
+    private final List<TransactionShard> shards;
+    private final int batchSize;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("search-gram-backfill-"));
+
+    @Autowired
+    public SearchGramBackfillJob(FinancialTransactionRepository repository,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectProvider<ShardedTransactionRepository> shardedRepository,
+                                 @Value("${financial.search.backfill-batch-size:1000}") int batchSize) {
+        ShardedTransactionRepository sharded = shardedRepository.getIfAvailable();
+        this.shards = sharded != null
+                ? sharded.getShards()
+                : List.of(new JpaTransactionShard(repository, transactionManager));
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts the pass once the application is ready, so it neither delays startup
+     * nor occupies the shared scheduler thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.execute(this::backfill);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    void backfill() {
+        for (int shard = 0; shard < shards.size() && !Thread.currentThread().isInterrupted(); shard++) {
+            backfill(shard, shards.get(shard));
+        }
+    }
+
+    private void backfill(int shard, TransactionShard store) {
+        long afterId = 0L;
+        long next;
+        int batches = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()
+                    && (next = store.backfillSearchGrams(afterId, batchSize)) >= 0) {
+                afterId = next;
+                batches++;
+            }
+            log.atInfo()
+                    .addKeyValue("shard", shard)
+                    .addKeyValue("batches", batches)
+                    .log("Search grams backfilled");
+        } catch (DataAccessException e) {
+            // E.g. another instance inserted the same grams; rerunning skips covered rows
+            log.atWarn()
+                    .addKeyValue("shard", shard)
+                    .addKeyValue("afterId", afterId)
+                    .setCause(e)
+                    .log("Search gram backfill stopped");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.model.TransactionRow;
+import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.TransactionArchive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Background job that moves closed months out of the hot table into archive segments.
+ * The most recent {@code financial.archive.hot-months} months (including the
+ * current one) stay in the database. Only the application's own database is
+ * archived, so the job refuses to start with {@code financial.sharding.enabled=true}:
+ * the other shards would keep every row, and segments de-duplicate rows by id,
+ * which is only unique within one shard.
+ * Single Responsibility: Only handles moving cold data to the archive.
+ */
+@Component
+@ConditionalOnProperty(name = "financial.archive.enabled", havingValue = "true")
+public class TransactionArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionArchivalJob.class);
+
+    private final FinancialTransactionRepository repository;
+    private final TransactionArchive archive;
+    private final int hotMonths;
+    private final int batchSize;
+
+    @Autowired
+    public TransactionArchivalJob(FinancialTransactionRepository repository,
+                                  TransactionArchive archive,
+                                  @Value("${financial.archive.hot-months:3}") int hotMonths,
+                                  @Value("${financial.archive.batch-size:5000}") int batchSize,
+                                  @Value("${financial.sharding.enabled:false}") boolean shardingEnabled) {
+        if (shardingEnabled) {
+            throw new IllegalStateException("financial.archive.enabled is not supported with financial.sharding.enabled");
+        }
+        this.repository = repository;
+        this.archive = archive;
+        this.hotMonths = hotMonths;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archives every month older than the hot window, oldest first.
+     */
+    @Scheduled(cron = "${financial.archive.cron:0 0 3 * * *}")
+    public void archiveClosedMonths() {
+        YearMonth firstHotMonth = YearMonth.now().minusMonths(hotMonths - 1L);
+        Optional<LocalDateTime> oldest = repository.findOldestTransactionDate();
+        if (oldest.isEmpty()) {
+            return;
+        }
+        for (YearMonth month = YearMonth.from(oldest.get()); month.isBefore(firstHotMonth); month = month.plusMonths(1)) {
+            archiveMonth(month);
+        }
+    }
+
+    /**
+     * Copies one month into a new segment, then removes exactly the copied rows
+     * from the hot table. Rows are read in id-ordered batches so memory use does
+     * not depend on the size of the month.
+     */
+    void archiveMonth(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        long maxId = 0L;
+        long rowCount;
+
+        try (TransactionArchive.SegmentWriter writer = archive.openSegment(month)) {
+            List<TransactionRow> batch;
+            do {
+                batch = repository.findArchiveBatch(from, to, maxId, PageRequest.of(0, batchSize));
+                for (TransactionRow row : batch) {
+                    writer.append(row);
+                    maxId = row.id();
+                }
+            } while (batch.size() == batchSize);
+
+            rowCount = writer.getRowCount();
+            if (rowCount == 0) {
+                return;
+            }
+            writer.commit();
+        }
+
+        // Only rows up to the last archived id are removed, so late inserts into the month survive
+        int deleted = repository.deleteArchivedRange(from, to, maxId);
+        log.atInfo()
+                .addKeyValue("month", month.toString())
+                .addKeyValue("archived", rowCount)
+                .addKeyValue("deleted", deleted)
+                .log("Archived transactions for {}", month);
+    }
+}
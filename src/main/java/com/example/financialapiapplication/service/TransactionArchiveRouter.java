@@ -0,0 +1,103 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.diagnostics.SortMergeEvent;
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.TransactionRow;
+import com.example.financialapiapplication.repository.TransactionArchive;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Routes transaction queries across the hot table and the archive.
+ * A missing dateFrom or dateTo is open-ended, so any request whose range overlaps
+ * an archived month reads the archive; only ranges entirely inside the hot table
+ * skip it. Archive-routed requests get a single page merged from both stores in
+ * the configured sort, with a total that counts both.
+ * Single Responsibility: Only handles hot/archive query routing.
+ */
+@Component
+public class TransactionArchiveRouter {
+
+    private final TransactionArchive archive;
+
+    @Autowired
+    public TransactionArchiveRouter(TransactionArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Returns true when archived months may contain rows for this request.
+     * Months outside {@code [dateFrom, dateTo]} are pruned without being read;
+     * an unbounded side covers every archived month on that side.
+     */
+    public boolean needsArchive(TransactionFilterRequest request) {
+        return archive.overlaps(request);
+    }
+
+    /**
+     * Reads one page across both stores. Archived rows are filtered while they are
+     * streamed and only the first offset + limit in sort order are kept, then merged
+     * with the first offset + limit hot rows. The merge is used for every sort,
+     * including the date sort, because late inserts leave hot rows dated inside
+     * archived months.
+     *
+     * @param pageable sorted page request
+     * @param hotQuery runs the repository query against the hot table
+     */
+    public Page<Payment> findPage(TransactionFilterRequest request, Pageable pageable,
+                                  Function<Pageable, Page<TransactionRow>> hotQuery) {
+        Comparator<TransactionRow> comparator = TransactionRow.comparator(pageable.getSort());
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        int window = Math.toIntExact(offset + limit);
+
+        SortMergeEvent event = new SortMergeEvent();
+        event.begin();
+        // Max-heap on the sort order: the head is the row that drops out first
+        PriorityQueue<TransactionRow> kept = new PriorityQueue<>(Math.min(window, 1024), comparator.reversed());
+        long[] matched = new long[1];
+        archive.forEachInRange(request, row -> {
+            if (!TransactionFilterMatcher.matches(request, row.transactionDate(), row.payment())) {
+                return;
+            }
+            matched[0]++;
+            kept.offer(row);
+            if (kept.size() > window) {
+                kept.poll();
+            }
+        });
+        List<TransactionRow> archivedRows = new ArrayList<>(kept);
+        archivedRows.sort(comparator);
+
+        Page<TransactionRow> hotPage = hotQuery.apply(PageRequest.of(0, window, pageable.getSort()));
+        List<TransactionRow> hotRows = hotPage.getContent();
+
+        List<Payment> content = new ArrayList<>(limit);
+        int h = 0;
+        int a = 0;
+        for (long position = 0; position < window && (h < hotRows.size() || a < archivedRows.size()); position++) {
+            TransactionRow next;
+            if (a >= archivedRows.size() || (h < hotRows.size() && comparator.compare(hotRows.get(h), archivedRows.get(a)) <= 0)) {
+                next = hotRows.get(h++);
+            } else {
+                next = archivedRows.get(a++);
+            }
+            if (position >= offset) {
+                content.add(next.payment());
+            }
+        }
+        event.finish("archive", pageable.getSort().toString(), hotRows.size() + matched[0], content.size());
+        return new PageImpl<>(content, pageable, hotPage.getTotalElements() + matched[0]);
+    }
+}
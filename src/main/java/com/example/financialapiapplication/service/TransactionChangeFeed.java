@@ -0,0 +1,140 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.event.TransactionChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-process fan-out of committed transaction changes to filtered subscribers.
+ * Each subscription is indexed under its most selective key (userId, then
+ * service, then status), so a write is only checked against subscribers that
+ * could match it. Every subscriber has a bounded buffer; a subscriber that
+ * falls behind is terminated and has to resubscribe.
+ * Follows Single Responsibility Principle - only handles change dispatch.
+ */
+@Service
+public class TransactionChangeFeed {
+
+    private final int subscriberBufferSize;
+
+    private final Map<String, Set<Subscription>> byUserId = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscription>> byService = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscription>> byStatus = new ConcurrentHashMap<>();
+    private final Set<Subscription> unindexed = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TransactionChangeFeed(@Value("${financial.feed.subscriber-buffer-size:256}") int subscriberBufferSize) {
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+    /**
+     * Registers a filter and returns the stream of matching changes.
+     * The subscription is removed when the returned Flux is cancelled or terminated.
+     */
+    public Flux<TransactionChangedEvent> subscribe(TransactionFilterRequest filter) {
+        return Flux.defer(() -> {
+            Subscription subscription = new Subscription(filter,
+                    Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<TransactionChangedEvent>(subscriberBufferSize)));
+            register(subscription);
+            return subscription.sink.asFlux()
+                    .doFinally(signal -> unregister(subscription));
+        });
+    }
+
+    /**
+     * Dispatches a committed change to the subscribers whose filter matches it.
+     */
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Consumer<Subscription> dispatch = subscription -> {
+            if (TransactionFilterMatcher.matches(subscription.filter, event.transactionDate(), event.payment())) {
+                subscription.emit(event);
+            }
+        };
+        candidates(byUserId, event.payment().userId()).forEach(dispatch);
+        candidates(byService, event.payment().service()).forEach(dispatch);
+        candidates(byStatus, event.payment().status()).forEach(dispatch);
+        unindexed.forEach(dispatch);
+    }
+
+    /**
+     * Returns the number of active subscriptions.
+     */
+    public int getSubscriberCount() {
+        return unindexed.size() + count(byUserId) + count(byService) + count(byStatus);
+    }
+
+    private void register(Subscription subscription) {
+        TransactionFilterRequest filter = subscription.filter;
+        if (filter.getUserId() != null) {
+            byUserId.computeIfAbsent(filter.getUserId(), key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        } else if (filter.getService() != null) {
+            byService.computeIfAbsent(filter.getService(), key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        } else if (filter.getStatus() != null) {
+            byStatus.computeIfAbsent(filter.getStatus(), key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        } else {
+            unindexed.add(subscription);
+        }
+    }
+
+    private void unregister(Subscription subscription) {
+        TransactionFilterRequest filter = subscription.filter;
+        if (filter.getUserId() != null) {
+            remove(byUserId, filter.getUserId(), subscription);
+        } else if (filter.getService() != null) {
+            remove(byService, filter.getService(), subscription);
+        } else if (filter.getStatus() != null) {
+            remove(byStatus, filter.getStatus(), subscription);
+        } else {
+            unindexed.remove(subscription);
+        }
+    }
+
+    private static void remove(Map<String, Set<Subscription>> index, String key, Subscription subscription) {
+        index.computeIfPresent(key, (k, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private static Set<Subscription> candidates(Map<String, Set<Subscription>> index, String key) {
+        if (key == null) {
+            return Set.of();
+        }
+        return index.getOrDefault(key, Set.of());
+    }
+
+    private static int count(Map<String, Set<Subscription>> index) {
+        return index.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private static final class Subscription {
+
+        private final TransactionFilterRequest filter;
+        private final Sinks.Many<TransactionChangedEvent> sink;
+
+        private Subscription(TransactionFilterRequest filter, Sinks.Many<TransactionChangedEvent> sink) {
+            this.filter = filter;
+            this.sink = sink;
+        }
+
+        // Writers on different threads may dispatch concurrently; the sink needs serialized emission
+        private synchronized void emit(TransactionChangedEvent event) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                sink.tryEmitError(new IllegalStateException("Subscriber fell behind; buffer of pending changes is full"));
+            }
+        }
+    }
+}
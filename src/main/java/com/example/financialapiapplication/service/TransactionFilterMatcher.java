@@ -0,0 +1,40 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.repository.TextSearchCriteria;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * In-memory equivalent of the repository filter clause.
+ * Single Responsibility: Only decides whether a row matches a filter request.
+ */
+public final class TransactionFilterMatcher {
+
+    private TransactionFilterMatcher() {
+    }
+
+    /**
+     * Returns true when the row satisfies every non-null filter in the request.
+     * Pagination fields are ignored.
+     */
+    public static boolean matches(TransactionFilterRequest filter, LocalDateTime transactionDate, Payment payment) {
+        if (filter.getDateFrom() != null && (transactionDate == null || transactionDate.isBefore(filter.getDateFrom()))) {
+            return false;
+        }
+        if (filter.getDateTo() != null && (transactionDate == null || transactionDate.isAfter(filter.getDateTo()))) {
+            return false;
+        }
+        return matchesValue(filter.getUserId(), payment.userId())
+                && matchesValue(filter.getService(), payment.service())
+                && matchesValue(filter.getStatus(), payment.status())
+                && matchesValue(filter.getReference(), payment.reference())
+                && TextSearchCriteria.matches(filter, payment.reference(), payment.id());
+    }
+
+    private static boolean matchesValue(String expected, String actual) {
+        return expected == null || Objects.equals(expected, actual);
+    }
+}
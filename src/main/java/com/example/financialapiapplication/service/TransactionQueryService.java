@@ -0,0 +1,173 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.diagnostics.RepositoryQueryEvent;
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.ServiceCode;
+import com.example.financialapiapplication.model.StatusCode;
+import com.example.financialapiapplication.model.TransactionRow;
+import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.HotWindowTransactionIndex;
+import com.example.financialapiapplication.repository.ShardedTransactionRepository;
+import com.example.financialapiapplication.repository.TextSearchCriteria;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service responsible for the read-only transaction query path.
+ * Follows Single Responsibility Principle - only handles transaction reads.
+ */
+@Service
+public class TransactionQueryService {
+
+    /**
+     * Sortable properties. Each one is backed by a (column, id) index on
+     * financial_transactions (see FinancialTransaction and db/shard-schema.sql);
+     * add the index before adding a property here.
+     */
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("transactionDate", "paymentId", "userId", "amount", "createdAt", "updatedAt");
+
+    private final FinancialTransactionRepository repository;
+    private final ShardedTransactionRepository shardedRepository;
+    private final HotWindowTransactionIndex hotIndex;
+    private final TransactionArchiveRouter archiveRouter;
+    private final Sort sort;
+
+    @Autowired
+    public TransactionQueryService(FinancialTransactionRepository repository,
+                                   ObjectProvider<ShardedTransactionRepository> shardedRepository,
+                                   ObjectProvider<HotWindowTransactionIndex> hotIndex,
+                                   TransactionArchiveRouter archiveRouter,
+                                   @Value("${financial.transactions.sort:transactionDate}") String sortProperty,
+                                   @Value("${financial.transactions.sort-direction:DESC}") Sort.Direction sortDirection) {
+        if (!SORTABLE_PROPERTIES.contains(sortProperty)) {
+            throw new IllegalArgumentException("Unsupported transaction sort property: " + sortProperty);
+        }
+        this.repository = repository;
+        this.shardedRepository = shardedRepository.getIfAvailable();
+        this.hotIndex = hotIndex.getIfAvailable();
+        this.archiveRouter = archiveRouter;
+        // The id tie-breaker keeps page boundaries stable when sort values repeat
+        this.sort = Sort.by(sortDirection, sortProperty).and(Sort.by(sortDirection, "id"));
+    }
+
+    /**
+     * Retrieves a page of transactions projected into payment DTOs, ordered by
+     * the configured sort. Runs in a read-only transaction so Hibernate skips
+     * flushing and dirty checking. Recent date ranges are answered from the
+     * in-memory hot-window index when it is enabled. Archived months are
+     * read whenever the requested range, open-ended or not, overlaps them.
+     */
+    @Transactional(readOnly = true)
+    public Page<Payment> findPayments(TransactionFilterRequest request, Pageable pageable) {
+        Pageable sorted = applySort(pageable);
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        Optional<Page<Payment>> indexed = hotIndex != null ? hotIndex.find(request, sorted) : Optional.empty();
+        if (indexed.isPresent()) {
+            return recordQuery(event, "hot-index", request, sorted, indexed.get());
+        }
+        if (archiveRouter.needsArchive(request)) {
+            return recordQuery(event, "archive", request, sorted,
+                    archiveRouter.findPage(request, sorted, hotPageable -> findHotRows(request, hotPageable)));
+        }
+        return recordQuery(event, shardedRepository != null ? "shards" : "database", request, sorted,
+                findHotPayments(request, sorted));
+    }
+
+    /**
+     * Returns the configured sort applied to every transaction query.
+     */
+    public Sort getSort() {
+        return sort;
+    }
+
+    private Page<Payment> findHotPayments(TransactionFilterRequest request, Pageable pageable) {
+        if (shardedRepository != null) {
+            return shardedRepository.findPayments(request, pageable);
+        }
+        TextSearchCriteria search = TextSearchCriteria.of(request);
+        if (search.hasGrams()) {
+            return repository.searchPaymentsWithFilters(
+                    request.getDateFrom(),
+                    request.getDateTo(),
+                    request.getUserId(),
+                    ServiceCode.of(request.getService()),
+                    StatusCode.of(request.getStatus()),
+                    request.getReference(),
+                    search,
+                    pageable
+            );
+        }
+        return repository.findPaymentsWithFilters(
+                request.getDateFrom(),
+                request.getDateTo(),
+                request.getUserId(),
+                ServiceCode.of(request.getService()),
+                StatusCode.of(request.getStatus()),
+                request.getReference(),
+                search,
+                pageable
+        );
+    }
+
+    private Page<TransactionRow> findHotRows(TransactionFilterRequest request, Pageable pageable) {
+        if (shardedRepository != null) {
+            return shardedRepository.findRows(request, pageable);
+        }
+        TextSearchCriteria search = TextSearchCriteria.of(request);
+        if (search.hasGrams()) {
+            return repository.searchRowsWithFilters(
+                    request.getDateFrom(),
+                    request.getDateTo(),
+                    request.getUserId(),
+                    ServiceCode.of(request.getService()),
+                    StatusCode.of(request.getStatus()),
+                    request.getReference(),
+                    search,
+                    pageable
+            );
+        }
+        return repository.findRowsWithFilters(
+                request.getDateFrom(),
+                request.getDateTo(),
+                request.getUserId(),
+                ServiceCode.of(request.getService()),
+                StatusCode.of(request.getStatus()),
+                request.getReference(),
+                search,
+                pageable
+        );
+    }
+
+    private static Page<Payment> recordQuery(RepositoryQueryEvent event, String source,
+                                             TransactionFilterRequest request, Pageable pageable, Page<Payment> page) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.filters = RepositoryQueryEvent.filterNames(request);
+            event.sort = pageable.getSort().toString();
+            event.offset = pageable.getOffset();
+            event.limit = pageable.getPageSize();
+            event.rows = page.getNumberOfElements();
+            event.totalRows = page.getTotalElements();
+            event.commit();
+        }
+        return page;
+    }
+
+    private Pageable applySort(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
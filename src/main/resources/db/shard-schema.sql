@@ -0,0 +1,27 @@
+-- Schema of one financial_transactions shard; mirrors the FinancialTransaction entity
+CREATE TABLE IF NOT EXISTS financial_transactions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    payment_id VARCHAR(255),
+    user_id VARCHAR(255),
+    service VARCHAR(255),
+    status VARCHAR(255),
+    reference VARCHAR(255),
+    amount NUMERIC(38, 2),
+    transaction_date TIMESTAMP(6),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+CREATE INDEX IF NOT EXISTS idx_ft_transaction_date ON financial_transactions (transaction_date, id);
+CREATE INDEX IF NOT EXISTS idx_ft_payment_id ON financial_transactions (payment_id, id);
+CREATE INDEX IF NOT EXISTS idx_ft_user_id ON financial_transactions (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_ft_amount ON financial_transactions (amount, id);
+CREATE INDEX IF NOT EXISTS idx_ft_created_at ON financial_transactions (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_ft_updated_at ON financial_transactions (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_ft_reference ON financial_transactions (reference);
+-- Trigram keys of reference and payment_id (see SearchGrams) for substring search
+CREATE TABLE IF NOT EXISTS financial_transaction_grams (
+    transaction_id BIGINT NOT NULL REFERENCES financial_transactions (id) ON DELETE CASCADE,
+    gram VARCHAR(255) NOT NULL,
+    PRIMARY KEY (transaction_id, gram)
+);
+CREATE INDEX IF NOT EXISTS idx_ftg_gram ON financial_transaction_grams (gram, transaction_id);
@@ -0,0 +1,139 @@
+package com.example.financialapiapplication.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for ReadWriteRoutingDataSource, using separate in-memory H2
+ * databases as stand-ins for the primary and its replicas.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private ReplicaPool replicaPool;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        replicaPool = new ReplicaPool(List.of(
+                new ReplicaPool.Replica("replica-0", node("replica-0"), null),
+                new ReplicaPool.Replica("replica-1", node("replica-1"), null)),
+                ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicaPool);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void testReadOnlyTransactions_AreBalancedAcrossReplicas() {
+        assertEquals("replica-0", readOnly.execute(status -> currentNode()));
+        assertEquals("replica-1", readOnly.execute(status -> currentNode()));
+        assertEquals("replica-0", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testWriteTransactions_GoToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testReadYourWrites_PinsReadOnlyTransactionToPrimary() {
+        String node = DataSourceRoutingContext.readYourWrites(() -> readOnly.execute(status -> currentNode()));
+
+        assertEquals("primary", node);
+    }
+
+    @Test
+    void testPropagate_CarriesReadYourWritesToWorkerThread() {
+        Supplier<String> task = DataSourceRoutingContext.readYourWrites(() ->
+                DataSourceRoutingContext.propagate(() -> readOnly.execute(status -> currentNode())));
+
+        assertEquals("primary", CompletableFuture.supplyAsync(task).join());
+    }
+
+    @Test
+    void testPropagate_KeepsReadsForWriteTransactionOnPrimary() {
+        Supplier<String> task = readWrite.execute(status ->
+                DataSourceRoutingContext.propagate(() -> readOnly.execute(inner -> currentNode())));
+
+        assertEquals("primary", CompletableFuture.supplyAsync(task).join());
+    }
+
+    @Test
+    void testPropagate_LeavesReadOnlyCallersOnReplicas() {
+        Supplier<String> task = readOnly.execute(status ->
+                DataSourceRoutingContext.propagate(() -> readOnly.execute(inner -> currentNode())));
+
+        assertEquals("replica-0", CompletableFuture.supplyAsync(task).join());
+    }
+
+    @Test
+    void testUnhealthyReplicas_FallBackToPrimary() {
+        ReplicaPool brokenPool = new ReplicaPool(List.of(
+                new ReplicaPool.Replica("replica-0", missingDatabase(), null)),
+                ReplicaRoutingProperties.LoadBalancing.RANDOM, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        brokenPool.checkHealth();
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(node("primary"), brokenPool);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(true);
+
+        String node = template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+
+        assertEquals("primary", node);
+    }
+
+    @Test
+    void testLaggingReplica_IsTakenOutOfRotation() {
+        ReplicaPool laggingPool = new ReplicaPool(List.of(
+                new ReplicaPool.Replica("replica-0", node("replica-0"), "SELECT 30")),
+                ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        laggingPool.checkHealth();
+
+        assertEquals(null, laggingPool.select());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(32))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static DataSource missingDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE");
+        return dataSource;
+    }
+}
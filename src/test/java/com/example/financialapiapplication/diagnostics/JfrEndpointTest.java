@@ -0,0 +1,78 @@
+package com.example.financialapiapplication.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEndpointTest {
+
+    private final JfrEndpoint endpoint = new JfrEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(8), 2);
+
+    @AfterEach
+    void tearDown() {
+        endpoint.destroy();
+    }
+
+    @Test
+    void testStop_SummarizesSlowestEventsPerType() {
+        JfrEndpoint.RecordingSummary started = endpoint.start(Duration.ofHours(1));
+        assertEquals("RUNNING", started.state());
+        assertEquals(Duration.ofMinutes(1), started.duration());
+
+        for (int millis : new int[]{1, 30, 10}) {
+            SortMergeEvent event = new SortMergeEvent();
+            event.begin();
+            sleep(millis);
+            event.finish("shards", "transactionDate: DESC", 3L * millis, millis);
+        }
+
+        JfrEndpoint.RecordingSummary summary = endpoint.stop();
+
+        JfrEndpoint.EventTypeSummary sortMerge = summary.events().get("Sort and Merge");
+        assertEquals(3, sortMerge.count());
+        List<JfrEndpoint.SlowEvent> slowest = sortMerge.slowest();
+        assertEquals(2, slowest.size());
+        assertEquals(30, slowest.get(0).fields().get("outputRows"));
+        assertEquals(10, slowest.get(1).fields().get("outputRows"));
+        assertEquals("shards", slowest.get(0).fields().get("source"));
+        assertTrue(slowest.get(0).durationMillis() >= 30);
+        assertEquals("NONE", endpoint.summary().state());
+    }
+
+    @Test
+    void testSummary_OmitsPaymentIds() {
+        endpoint.start(null);
+        PaymentLookupEvent event = new PaymentLookupEvent();
+        event.begin();
+        event.paymentId = "PAY001";
+        event.outcome = "found";
+        event.commit();
+
+        Map<String, Object> fields = endpoint.stop().events().get("Payment Lookup").slowest().get(0).fields();
+
+        assertEquals(Map.of("outcome", "found"), fields);
+    }
+
+    @Test
+    void testSummary_WithoutRecording() {
+        JfrEndpoint.RecordingSummary summary = endpoint.summary();
+
+        assertEquals("NONE", summary.state());
+        assertTrue(summary.events().isEmpty());
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
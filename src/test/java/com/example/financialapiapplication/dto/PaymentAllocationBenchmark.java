@@ -0,0 +1,109 @@
+package com.example.financialapiapplication.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Heap cost of large result pages: the compact {@link Payment} against the
+ * previous representation with per-row strings, BigDecimal and LocalDateTime.
+ * Rows are built from freshly allocated column values, as a JDBC driver
+ * delivers them. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class PaymentAllocationBenchmark {
+
+    private static final int[] PAGE_SIZES = {10_000, 100_000, 250_000};
+    private static final String[] SERVICES = {"PAYMENT_SERVICE", "TRANSFER_SERVICE", "WITHDRAWAL_SERVICE"};
+    private static final String[] STATUSES = {"COMPLETED", "PENDING", "FAILED"};
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    /** The previous payment view, kept here as the baseline. */
+    private record BoxedPayment(String id, String userId, String service, String status, String reference,
+                                BigDecimal amount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void allocationPerRowForLargePages() throws Exception {
+        System.out.println("page size | representation | retained (B/row) | sort by amount (B/row) | serialize (B/row)");
+        for (int pageSize : PAGE_SIZES) {
+            report(pageSize, "boxed", PaymentAllocationBenchmark::boxedRow,
+                    Comparator.comparing(BoxedPayment::amount));
+            report(pageSize, "compact", PaymentAllocationBenchmark::compactRow, Payment.BY_AMOUNT);
+        }
+    }
+
+    private <T> void report(int pageSize, String representation, IntFunction<T> rowFactory,
+                            Comparator<T> byAmount) throws Exception {
+        // Warm up the code paths so class loading and JIT work are not counted
+        for (int i = 0; i < 3; i++) {
+            List<T> page = build(pageSize, rowFactory);
+            page.sort(byAmount);
+            mapper.writeValue(OutputStream.nullOutputStream(), page);
+        }
+
+        long heapBefore = usedHeapAfterGc();
+        List<T> page = build(pageSize, rowFactory);
+        long retained = usedHeapAfterGc() - heapBefore;
+
+        long allocatedBefore = allocatedBytes();
+        page.sort(byAmount);
+        long sortAllocated = allocatedBytes() - allocatedBefore;
+
+        allocatedBefore = allocatedBytes();
+        mapper.writeValue(OutputStream.nullOutputStream(), page);
+        long serializeAllocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("%9d | %14s | %16d | %22d | %17d%n", page.size(), representation,
+                retained / pageSize, sortAllocated / pageSize, serializeAllocated / pageSize);
+    }
+
+    private static <T> List<T> build(int pageSize, IntFunction<T> rowFactory) {
+        List<T> page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(rowFactory.apply(i));
+        }
+        return page;
+    }
+
+    private static BoxedPayment boxedRow(int i) {
+        LocalDateTime timestamp = START.plusNanos(i * 1_000_000_123L);
+        return new BoxedPayment("PAY" + i, "USER" + (i % 500), new String(SERVICES[i % 3]),
+                new String(STATUSES[i % 3]), "REF" + i, BigDecimal.valueOf(i * 37L % 100_000, 2),
+                timestamp, timestamp.plusSeconds(1));
+    }
+
+    private static Payment compactRow(int i) {
+        LocalDateTime timestamp = START.plusNanos(i * 1_000_000_123L);
+        return new Payment("PAY" + i, "USER" + (i % 500), new String(SERVICES[i % 3]),
+                new String(STATUSES[i % 3]), "REF" + i, BigDecimal.valueOf(i * 37L % 100_000, 2),
+                timestamp, timestamp.plusSeconds(1));
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
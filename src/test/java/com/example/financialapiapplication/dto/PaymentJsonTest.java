@@ -0,0 +1,108 @@
+package com.example.financialapiapplication.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaymentJsonTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void testSerialize_KeepsPublicWireFormat() throws Exception {
+        Payment payment = new Payment("PAY005", "USER002", "TRANSFER_SERVICE", "COMPLETED", "REF005",
+                new BigDecimal("150.00"), LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_000),
+                LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        assertEquals("{\"id\":\"PAY005\",\"userId\":\"USER002\",\"service\":\"TRANSFER_SERVICE\","
+                        + "\"status\":\"COMPLETED\",\"reference\":\"REF005\",\"amount\":150.00,"
+                        + "\"createdAt\":\"2024-01-15T10:30:00.123456\",\"updatedAt\":\"2024-01-15T10:30:00\"}",
+                mapper.writeValueAsString(payment));
+    }
+
+    @Test
+    void testRoundTrip_PreservesValuesAndNulls() throws Exception {
+        Payment payment = new Payment("PAY001", null, "PAYMENT_SERVICE", null, "REF001",
+                new BigDecimal("-0.5"), LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000), null);
+
+        Payment read = mapper.readValue(mapper.writeValueAsString(payment), Payment.class);
+
+        assertEquals(payment, read);
+        assertEquals(new BigDecimal("-0.5"), read.amount());
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000), read.createdAt());
+        assertNull(read.status());
+        assertNull(read.updatedAt());
+    }
+
+    @Test
+    void testLargeAmount_FallsBackToBigDecimal() throws Exception {
+        BigDecimal large = new BigDecimal("123456789012345678901234567890123456.78");
+        Payment payment = new Payment("PAY003", "USER001", "PAYMENT_SERVICE", "COMPLETED", "REF003",
+                large, null, null);
+        Payment small = new Payment("PAY004", "USER001", "PAYMENT_SERVICE", "COMPLETED", "REF004",
+                new BigDecimal("10.00"), null, null);
+
+        assertEquals(large, payment.amount());
+        assertNull(small.largeAmount());
+        assertEquals(large, mapper.readValue(mapper.writeValueAsString(payment), Payment.class).amount());
+        assertTrue(Payment.BY_AMOUNT.compare(small, payment) < 0);
+        assertEquals(large, payment.withEnrichment(new PaymentEnrichment("FAILED", null)).amount());
+    }
+
+    @Test
+    void testWithEnrichment_BackendFieldsReplaceStoredOnes() {
+        Payment stored = stored();
+
+        Payment enriched = stored.withEnrichment(new PaymentEnrichment("FAILED", LocalDateTime.of(2024, 1, 15, 12, 0)));
+
+        assertEquals(new Payment("PAY001", "USER001", "PAYMENT_SERVICE", "FAILED", "REF001",
+                new BigDecimal("100.50"), LocalDateTime.of(2024, 1, 15, 10, 0), LocalDateTime.of(2024, 1, 15, 12, 0)), enriched);
+    }
+
+    @Test
+    void testWithEnrichment_NullFieldsKeepStoredValues() {
+        Payment stored = stored();
+
+        Payment statusOnly = stored.withEnrichment(new PaymentEnrichment("COMPLETED", null));
+        Payment updatedAtOnly = stored.withEnrichment(new PaymentEnrichment(null, LocalDateTime.of(2024, 1, 16, 9, 0)));
+
+        assertEquals("COMPLETED", statusOnly.status());
+        assertEquals(stored.updatedAt(), statusOnly.updatedAt());
+        assertEquals("PENDING", updatedAtOnly.status());
+        assertEquals(LocalDateTime.of(2024, 1, 16, 9, 0), updatedAtOnly.updatedAt());
+    }
+
+    @Test
+    void testWithEnrichment_EmptyOrUnchangedEnrichmentReturnsSameInstance() {
+        Payment stored = stored();
+
+        assertSame(stored, stored.withEnrichment(new PaymentEnrichment(null, null)));
+        assertSame(stored, stored.withEnrichment(new PaymentEnrichment("PENDING", stored.updatedAt())));
+    }
+
+    @Test
+    void testDeserialize_AcceptsArrayDatesAndSkipsUnknownFields() throws Exception {
+        Payment read = mapper.readValue("{\"id\":\"PAY002\",\"amount\":null,\"extra\":{\"a\":[1]},"
+                + "\"createdAt\":[2024,1,15,10,30,5]}", Payment.class);
+
+        assertEquals("PAY002", read.id());
+        assertNull(read.amount());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30, 5), read.createdAt());
+    }
+
+    private static Payment stored() {
+        return new Payment("PAY001", "USER001", "PAYMENT_SERVICE", "PENDING", "REF001",
+                new BigDecimal("100.50"), LocalDateTime.of(2024, 1, 15, 10, 0), LocalDateTime.of(2024, 1, 15, 10, 0));
+    }
+}
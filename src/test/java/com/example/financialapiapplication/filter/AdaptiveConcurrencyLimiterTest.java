@@ -0,0 +1,66 @@
+package com.example.financialapiapplication.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for AdaptiveConcurrencyLimiter.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testTryAcquire_RejectsAtLimitAndReleasesOnce() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2, 1.5);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        assertNotNull(first);
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+
+        first.release(false);
+        first.release(false);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void testOnSample_GrowsWhileLatencyIsSteadyAndShrinksWhenItRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 0.2, 1.5);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(FAST, limiter.getLimit(), false);
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 20, "limit should grow under steady latency, was " + grown);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(SLOW, limiter.getLimit(), false);
+        }
+        assertTrue(limiter.getLimit() < grown, "limit should shrink when requests queue");
+    }
+
+    @Test
+    void testOnSample_IgnoresLatencyWhenUnderusedAndBacksOffOnErrors() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 0.2, 1.5);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(FAST, 1, false);
+        }
+        assertEquals(20, limiter.getLimit());
+
+        limiter.onSample(FAST, 20, true);
+        assertEquals(18, limiter.getLimit());
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(FAST, 20, true);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+}
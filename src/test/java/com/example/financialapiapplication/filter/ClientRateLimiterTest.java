@@ -0,0 +1,59 @@
+package com.example.financialapiapplication.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ClientRateLimiter, driven by a manual clock.
+ */
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void testTryAcquire_AllowsBurstThenRefillsAtRate() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 5, 100, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client-a", 1));
+        }
+        long waitNanos = limiter.tryAcquire("client-a", 1);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), waitNanos);
+
+        // Other clients have their own bucket
+        assertEquals(0, limiter.tryAcquire("client-b", 1));
+
+        clock.addAndGet(waitNanos);
+        assertEquals(0, limiter.tryAcquire("client-a", 1));
+    }
+
+    @Test
+    void testTryAcquire_ExpensiveRequestsDrainTheBucketFaster() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 20, 100, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("client-a", 11));
+        assertTrue(limiter.tryAcquire("client-a", 11) > 0);
+        // Requests larger than the bucket are charged a full bucket rather than refused forever
+        assertEquals(0, limiter.tryAcquire("client-b", 1000));
+    }
+
+    @Test
+    void testTryAcquire_IdleClientsAreDroppedWhenTheMapIsFull() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 5, 2, clock::get);
+        limiter.tryAcquire("client-a", 1);
+        limiter.tryAcquire("client-b", 1);
+
+        // Both buckets still hold state, so a third client shares the overflow bucket
+        limiter.tryAcquire("client-c", 1);
+        assertEquals(3, limiter.getClientCount());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("client-d", 1);
+        assertEquals(1, limiter.getClientCount());
+    }
+}
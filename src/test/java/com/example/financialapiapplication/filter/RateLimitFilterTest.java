@@ -0,0 +1,53 @@
+package com.example.financialapiapplication.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for RateLimitFilter client identification.
+ */
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(new ClientRateLimiter(1, 1, 100),
+            "X-Client-Id", Set.of("10.0.0.1"), 100, new SimpleMeterRegistry());
+
+    @Test
+    void testClientId_IgnoresHeaderFromUntrustedCallers() {
+        MockHttpServletRequest request = request("203.0.113.7", "spoofed");
+
+        assertEquals("addr:203.0.113.7", filter.clientId(request));
+    }
+
+    @Test
+    void testClientId_TrustsHeaderFromConfiguredProxy() {
+        assertEquals("client:tenant-a", filter.clientId(request("10.0.0.1", "tenant-a")));
+        assertEquals("addr:10.0.0.1", filter.clientId(request("10.0.0.1", null)));
+    }
+
+    @Test
+    void testDoFilter_ChangingHeaderDoesNotResetTheBucket() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("203.0.113.7", "a"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("203.0.113.7", "b"), second, new MockFilterChain());
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions");
+        request.setRemoteAddr(remoteAddress);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}
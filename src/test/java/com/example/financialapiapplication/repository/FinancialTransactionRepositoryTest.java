@@ -0,0 +1,131 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.ServiceCode;
+import com.example.financialapiapplication.model.StatusCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the partial-match filters of FinancialTransactionRepository,
+ * the query path used when sharding is disabled.
+ */
+@DataJpaTest
+class FinancialTransactionRepositoryTest {
+
+    private static final Sort DATE_DESC = Sort.by(Sort.Direction.DESC, "transactionDate")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    @Autowired
+    private FinancialTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        // PAY001..PAY012: odd ids belong to USER1, every third is a transfer,
+        // references INV-A-1..INV-A-6 then INV-B-7..INV-B-12
+        for (int i = 1; i <= 12; i++) {
+            repository.save(new FinancialTransaction(String.format("PAY%03d", i),
+                    i % 2 == 0 ? "USER2" : "USER1",
+                    i % 3 == 0 ? "TRANSFER_SERVICE" : "PAYMENT_SERVICE",
+                    "COMPLETED",
+                    (i <= 6 ? "INV-A-" : "INV-B-") + i,
+                    BigDecimal.TEN,
+                    LocalDateTime.of(2024, 6, i, 10, 0)));
+        }
+    }
+
+    @Test
+    void testReferenceContains_UsesGramIndexWithExactFiltersAndPaging() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setReferenceContains("B-1");
+        request.setUserId("USER2");
+        assertTrue(TextSearchCriteria.of(request).hasGrams());
+
+        Page<Payment> first = find(request, PageRequest.of(0, 1, DATE_DESC));
+        Page<Payment> second = find(request, PageRequest.of(1, 1, DATE_DESC));
+
+        assertEquals(List.of("PAY012"), ids(first));
+        assertEquals(List.of("PAY010"), ids(second));
+        assertEquals(2, second.getTotalElements());
+    }
+
+    @Test
+    void testReferencePrefix_CombinesWithServiceAndStatus() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setReferencePrefix("INV-A");
+        request.setService("PAYMENT_SERVICE");
+        request.setStatus("COMPLETED");
+        assertFalse(TextSearchCriteria.of(request).hasGrams());
+
+        Page<Payment> page = find(request, PageRequest.of(1, 2, DATE_DESC));
+
+        assertEquals(List.of("PAY002", "PAY001"), ids(page));
+        assertEquals(4, page.getTotalElements());
+    }
+
+    @Test
+    void testPaymentIdContains_MatchesTogetherWithReferenceContains() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setPaymentIdContains("Y01");
+
+        assertEquals(List.of("PAY012", "PAY011", "PAY010"), ids(find(request, PageRequest.of(0, 10, DATE_DESC))));
+
+        // Grams of both terms must all be present on the row
+        request.setReferenceContains("B-1");
+        request.setUserId("USER1");
+        assertEquals(List.of("PAY011"), ids(find(request, PageRequest.of(0, 10, DATE_DESC))));
+
+        request.setService("TRANSFER_SERVICE");
+        assertEquals(0, find(request, PageRequest.of(0, 10, DATE_DESC)).getTotalElements());
+    }
+
+    @Test
+    void testShortTerms_AreMatchedLiterallyWithoutGrams() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setPaymentIdContains("01");
+        assertFalse(TextSearchCriteria.of(request).hasGrams());
+
+        assertEquals(List.of("PAY012", "PAY011", "PAY010", "PAY001"),
+                ids(find(request, PageRequest.of(0, 10, DATE_DESC))));
+
+        // LIKE wildcards in the term are escaped
+        request.setPaymentIdContains("_");
+        assertEquals(0, find(request, PageRequest.of(0, 10, DATE_DESC)).getTotalElements());
+    }
+
+    /**
+     * Chooses the query the way TransactionQueryService does without sharding.
+     */
+    private Page<Payment> find(TransactionFilterRequest request, Pageable pageable) {
+        TextSearchCriteria search = TextSearchCriteria.of(request);
+        if (search.hasGrams()) {
+            return repository.searchPaymentsWithFilters(request.getDateFrom(), request.getDateTo(),
+                    request.getUserId(), ServiceCode.of(request.getService()), StatusCode.of(request.getStatus()),
+                    request.getReference(), search, pageable);
+        }
+        return repository.findPaymentsWithFilters(request.getDateFrom(), request.getDateTo(),
+                request.getUserId(), ServiceCode.of(request.getService()), StatusCode.of(request.getStatus()),
+                request.getReference(), search, pageable);
+    }
+
+    private static List<String> ids(Page<Payment> page) {
+        return page.getContent().stream().map(Payment::id).toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.event.TransactionChangedEvent;
+import com.example.financialapiapplication.event.TransactionChangedEvent.ChangeType;
+import com.example.financialapiapplication.model.TransactionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for HotWindowTransactionIndex.
+ */
+class HotWindowTransactionIndexTest {
+
+    private static final Sort DATE_DESC = Sort.by(Sort.Direction.DESC, "transactionDate")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    private HotWindowTransactionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HotWindowTransactionIndex(Duration.ofHours(72));
+        index.warmUp(0, List.of(
+                row(1L, "USER001", "COMPLETED", "10.50", now.minusHours(3)),
+                row(2L, "USER002", "PENDING", "20.00", now.minusHours(2)),
+                row(3L, "USER001", "PENDING", "30.25", now.minusHours(1)),
+                row(4L, "USER001", "COMPLETED", "40.00", now.minusDays(10))));
+        index.finishWarmUp();
+    }
+
+    @Test
+    void testFind_FiltersAndSortsByDateDescending() {
+        Page<Payment> page = index.find(recentRequest(), PageRequest.of(0, 10, DATE_DESC)).orElseThrow();
+
+        assertEquals(List.of("PAY3", "PAY2", "PAY1"), page.getContent().stream().map(Payment::id).toList());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(new BigDecimal("30.25"), page.getContent().get(0).amount());
+        assertEquals(now.minusHours(1), page.getContent().get(0).createdAt());
+    }
+
+    @Test
+    void testFind_IntersectsPostingListsAndPages() {
+        TransactionFilterRequest request = recentRequest();
+        request.setUserId("USER001");
+        request.setStatus("PENDING");
+        assertEquals(List.of("PAY3"), ids(index.find(request, PageRequest.of(0, 10, DATE_DESC)).orElseThrow()));
+
+        request.setStatus(null);
+        Sort dateAsc = Sort.by(Sort.Direction.ASC, "transactionDate").and(Sort.by(Sort.Direction.ASC, "id"));
+        Page<Payment> second = index.find(request, PageRequest.of(1, 1, dateAsc)).orElseThrow();
+        assertEquals(List.of("PAY3"), ids(second));
+        assertEquals(2, second.getTotalElements());
+
+        request.setUserId("UNKNOWN");
+        assertTrue(index.find(request, PageRequest.of(0, 10, DATE_DESC)).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void testFind_FallsBackOutsideWindowOrForOtherSorts() {
+        TransactionFilterRequest old = new TransactionFilterRequest();
+        old.setDateFrom(now.minusDays(30));
+        assertFalse(index.find(old, PageRequest.of(0, 10, DATE_DESC)).isPresent());
+        assertFalse(index.find(new TransactionFilterRequest(), PageRequest.of(0, 10, DATE_DESC)).isPresent());
+
+        Sort byAmount = Sort.by(Sort.Direction.ASC, "amount").and(Sort.by(Sort.Direction.ASC, "id"));
+        assertFalse(index.find(recentRequest(), PageRequest.of(0, 10, byAmount)).isPresent());
+    }
+
+    @Test
+    void testApply_ChangesAreVisibleAndSurviveEviction() {
+        index.apply(event(ChangeType.INSERT, 0, row(5L, "USER003", "COMPLETED", "5.00", now.minusMinutes(5))));
+        index.apply(event(ChangeType.UPDATE, 0, row(2L, "USER002", "COMPLETED", "20.00", now.minusHours(2))));
+        index.apply(event(ChangeType.DELETE, 0, row(1L, "USER001", "COMPLETED", "10.50", now.minusHours(3))));
+        index.evictExpired();
+
+        TransactionFilterRequest request = recentRequest();
+        request.setStatus("COMPLETED");
+        assertEquals(List.of("PAY5", "PAY2"), ids(index.find(request, PageRequest.of(0, 10, DATE_DESC)).orElseThrow()));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testWarmUp_KeepsNewerRowsFromEvents() {
+        HotWindowTransactionIndex fresh = new HotWindowTransactionIndex(Duration.ofHours(72));
+        fresh.apply(event(ChangeType.UPDATE, 0, row(1L, "USER001", "FAILED", "10.50", now.minusHours(3))));
+        fresh.apply(event(ChangeType.DELETE, 0, row(2L, "USER002", "PENDING", "20.00", now.minusHours(2))));
+        assertFalse(fresh.isReady());
+
+        fresh.warmUp(0, List.of(row(1L, "USER001", "COMPLETED", "10.50", now.minusHours(3))));
+        fresh.warmUp(0, List.of(row(2L, "USER002", "PENDING", "20.00", now.minusHours(2))));
+        assertFalse(fresh.isReady());
+        fresh.finishWarmUp();
+
+        Page<Payment> page = fresh.find(recentRequest(), PageRequest.of(0, 10, DATE_DESC)).orElseThrow();
+        assertEquals(1, page.getTotalElements());
+        assertEquals("FAILED", page.getContent().get(0).status());
+    }
+
+    @Test
+    void testWarmUp_KeepsRowsWithTheSameIdOnDifferentShards() {
+        HotWindowTransactionIndex sharded = new HotWindowTransactionIndex(Duration.ofHours(72));
+        sharded.warmUp(0, List.of(row(1L, "USER001", "COMPLETED", "10.50", now.minusHours(3))));
+        sharded.warmUp(1, List.of(new TransactionRow(1L, now.minusHours(2), new Payment("PAY1-B", "USER002",
+                "PAYMENT_SERVICE", "PENDING", "REF1-B", new BigDecimal("20.00"), now.minusHours(2), now.minusHours(2)))));
+        sharded.finishWarmUp();
+        assertEquals(List.of("PAY1-B", "PAY1"), ids(sharded.find(recentRequest(), PageRequest.of(0, 10, DATE_DESC)).orElseThrow()));
+
+        sharded.apply(event(ChangeType.DELETE, 1, row(1L, "USER002", "PENDING", "20.00", now.minusHours(2))));
+
+        assertEquals(List.of("PAY1"), ids(sharded.find(recentRequest(), PageRequest.of(0, 10, DATE_DESC)).orElseThrow()));
+    }
+
+    @Test
+    void testApply_KeepsAmountsTooLargeForMinorUnits() {
+        BigDecimal large = new BigDecimal("99999999999999999999999999.99");
+        index.apply(event(ChangeType.INSERT, 0, row(6L, "USER009", "COMPLETED", large.toPlainString(), now.minusMinutes(1))));
+        index.evictExpired();
+
+        TransactionFilterRequest request = recentRequest();
+        request.setUserId("USER009");
+        assertEquals(large, index.find(request, PageRequest.of(0, 10, DATE_DESC)).orElseThrow().getContent().get(0).amount());
+    }
+
+    private TransactionFilterRequest recentRequest() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setDateFrom(now.minusDays(1));
+        return request;
+    }
+
+    private static List<String> ids(Page<Payment> page) {
+        return page.getContent().stream().map(Payment::id).toList();
+    }
+
+    private static TransactionChangedEvent event(ChangeType type, int shard, TransactionRow row) {
+        return new TransactionChangedEvent(type, shard, row.id(), row.transactionDate(), row.payment());
+    }
+
+    private static TransactionRow row(long id, String userId, String status, String amount, LocalDateTime date) {
+        return new TransactionRow(id, date, new Payment("PAY" + id, userId, "PAYMENT_SERVICE", status,
+                "REF" + id, new BigDecimal(amount), date, date));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Scatter-gather latency versus shard count, over embedded H2 shards.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ShardScatterGatherBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    private static final Sort DATE_DESC = Sort.by(Sort.Direction.DESC, "transactionDate")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    @Test
+    void scatterGatherLatencyByShardCount() throws Exception {
+        System.out.println("shards | first page p50 (us) | first page p99 (us) | offset 1000 p50 (us) | single user p50 (us)");
+        for (int shardCount : new int[]{1, 2, 4, 8}) {
+            List<TransactionShard> shards = new ArrayList<>();
+            for (int i = 0; i < shardCount; i++) {
+                shards.add(ShardedTransactionRepositoryTest.shard());
+            }
+            ShardedTransactionRepository repository = new ShardedTransactionRepository(shards);
+            LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+            for (int i = 0; i < ROWS; i++) {
+                repository.save(new FinancialTransaction("PAY" + i, "USER" + (i % 500), "PAYMENT_SERVICE",
+                        "COMPLETED", "REF" + i, new BigDecimal("10.00"), start.plusSeconds(i)));
+            }
+
+            TransactionFilterRequest all = new TransactionFilterRequest();
+            TransactionFilterRequest oneUser = new TransactionFilterRequest();
+            oneUser.setUserId("USER42");
+
+            long[] firstPage = measure(repository, all, PageRequest.of(0, 50, DATE_DESC));
+            long[] deepPage = measure(repository, all, PageRequest.of(20, 50, DATE_DESC));
+            long[] userPage = measure(repository, oneUser, PageRequest.of(0, 50, DATE_DESC));
+            System.out.printf("%6d | %19d | %19d | %20d | %20d%n", shardCount,
+                    percentile(firstPage, 50), percentile(firstPage, 99), percentile(deepPage, 50), percentile(userPage, 50));
+            repository.destroy();
+        }
+    }
+
+    private static long[] measure(ShardedTransactionRepository repository, TransactionFilterRequest request, Pageable pageable) {
+        for (int i = 0; i < WARMUP; i++) {
+            repository.findRows(request, pageable);
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            repository.findRows(request, pageable);
+            micros[i] = (System.nanoTime() - started) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
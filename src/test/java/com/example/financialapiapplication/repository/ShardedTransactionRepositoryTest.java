@@ -0,0 +1,213 @@
+package com.example.financialapiapplication.repository;
+
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.TransactionRow;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ShardedTransactionRepository, using embedded H2 databases as shards.
+ */
+class ShardedTransactionRepositoryTest {
+
+    private static final Sort DATE_DESC = Sort.by(Sort.Direction.DESC, "transactionDate")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private ShardedTransactionRepository repository;
+    private final List<FinancialTransaction> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = new ShardedTransactionRepository(List.of(shard(), shard(), shard()));
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 60; i++) {
+            FinancialTransaction transaction = new FinancialTransaction(
+                    String.format("PAY%03d", i), "USER" + (i % 7), i % 2 == 0 ? "PAYMENT_SERVICE" : "TRANSFER_SERVICE",
+                    "COMPLETED", "REF" + i, new BigDecimal(i + ".00"), start.plusMinutes(i));
+            saved.add(repository.save(transaction));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.destroy();
+    }
+
+    @Test
+    void testScatterGather_PagesMatchSingleDatabaseOrder() {
+        List<String> expected = saved.stream()
+                .filter(transaction -> transaction.getService().equals("PAYMENT_SERVICE"))
+                .sorted((a, b) -> b.getTransactionDate().compareTo(a.getTransactionDate()))
+                .map(FinancialTransaction::getPaymentId)
+                .toList();
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setService("PAYMENT_SERVICE");
+
+        List<String> actual = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            Page<TransactionRow> rows = repository.findRows(request, PageRequest.of(page, 8, DATE_DESC));
+            assertEquals(30, rows.getTotalElements());
+            rows.forEach(row -> actual.add(row.payment().id()));
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testUserQuery_IsServedByOwningShardOnly() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setUserId("USER3");
+
+        Page<TransactionRow> rows = repository.findRows(request, PageRequest.of(0, 20, DATE_DESC));
+
+        long expected = saved.stream().filter(transaction -> transaction.getUserId().equals("USER3")).count();
+        assertEquals(expected, rows.getTotalElements());
+        rows.forEach(row -> assertEquals("USER3", row.payment().userId()));
+    }
+
+    @Test
+    void testFindBatchSince_PagesEachShardByIdAfterDate() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 30);
+        int rows = 0;
+        for (TransactionShard shard : repository.getShards()) {
+            long afterId = 0L;
+            List<TransactionRow> batch;
+            do {
+                batch = shard.findBatchSince(from, afterId, 4);
+                for (TransactionRow row : batch) {
+                    assertTrue(row.id() > afterId);
+                    assertFalse(row.transactionDate().isBefore(from));
+                    afterId = row.id();
+                    rows++;
+                }
+            } while (batch.size() == 4);
+        }
+
+        assertEquals(30, rows);
+    }
+
+    @Test
+    void testBackfillSearchGrams_MakesExistingRowsSearchable() {
+        JdbcDataSource dataSource = dataSource();
+        JdbcTransactionShard shard = new JdbcTransactionShard(dataSource, 1, event -> { });
+        shard.initializeSchema();
+        for (int i = 0; i < 5; i++) {
+            shard.save(new FinancialTransaction("OLD" + i, "USER1", "PAYMENT_SERVICE", "COMPLETED",
+                    "LEGACY-" + i, BigDecimal.ONE, LocalDateTime.of(2024, 1, 1, 0, i)));
+        }
+        // Rows written before the gram table existed
+        new JdbcTemplate(dataSource).update("DELETE FROM financial_transaction_grams");
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setReferenceContains("GACY-3");
+        assertEquals(0, shard.findRows(request, PageRequest.of(0, 10, DATE_DESC)).getTotalElements());
+
+        long afterId = 0L;
+        int batches = 0;
+        while ((afterId = shard.backfillSearchGrams(afterId, 2)) >= 0) {
+            batches++;
+        }
+
+        assertEquals(3, batches);
+        assertEquals(List.of("OLD3"), shard.findRows(request, PageRequest.of(0, 10, DATE_DESC))
+                .map(row -> row.payment().id()).getContent());
+        assertEquals(-1L, shard.backfillSearchGrams(0L, 2));
+    }
+
+    @Test
+    void testTextSearch_CombinesSubstringAndPrefixWithFilters() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setReferenceContains("EF1");
+        request.setService("PAYMENT_SERVICE");
+
+        Page<TransactionRow> rows = repository.findRows(request, PageRequest.of(0, 20, DATE_DESC));
+        assertEquals(List.of("PAY018", "PAY016", "PAY014", "PAY012", "PAY010"),
+                rows.map(row -> row.payment().id()).getContent());
+
+        request.setReferenceContains(null);
+        request.setService(null);
+        request.setReferencePrefix("REF5");
+        request.setPaymentIdContains("_5");
+        assertEquals(0, repository.findRows(request, PageRequest.of(0, 20, DATE_DESC)).getTotalElements());
+
+        request.setPaymentIdContains("05");
+        assertEquals(List.of("PAY059", "PAY058", "PAY057", "PAY056", "PAY055", "PAY054",
+                        "PAY053", "PAY052", "PAY051", "PAY050", "PAY005"),
+                repository.findRows(request, PageRequest.of(0, 20, DATE_DESC)).map(row -> row.payment().id()).getContent());
+    }
+
+    static JdbcTransactionShard shard() {
+        JdbcTransactionShard shard = new JdbcTransactionShard(dataSource(), 1, event -> { });
+        shard.initializeSchema();
+        return shard;
+    }
+
+    @Test
+    void testIsEmpty_ChecksEveryShard() throws Exception {
+        ShardedTransactionRepository empty = new ShardedTransactionRepository(List.of(shard(), shard(), shard()));
+        assertTrue(empty.isEmpty());
+
+        // USER1 does not hash to shard 0, so a shard-0 count alone would still report empty
+        assertNotEquals(0, empty.shardFor("USER1"));
+        empty.save(new FinancialTransaction("PAY1", "USER1", "PAYMENT_SERVICE", "COMPLETED",
+                "REF1", BigDecimal.ONE, LocalDateTime.of(2024, 1, 1, 0, 0)));
+
+        assertFalse(empty.isEmpty());
+        assertTrue(empty.getShards().get(0).isEmpty());
+        empty.destroy();
+    }
+
+    @Test
+    void testSave_RollsBackRowWhenGramsCannotBeStored() {
+        JdbcDataSource dataSource = dataSource();
+        List<Object> events = new ArrayList<>();
+        JdbcTransactionShard shard = new JdbcTransactionShard(dataSource, 1, events::add);
+        shard.initializeSchema();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE financial_transaction_grams");
+
+        assertThrows(DataAccessException.class, () -> shard.save(new FinancialTransaction("PAY1", "USER1",
+                "PAYMENT_SERVICE", "COMPLETED", "REF1", BigDecimal.ONE, LocalDateTime.of(2024, 1, 1, 0, 0))));
+
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM financial_transactions", Integer.class));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testDestroy_ClosesShardConnectionPools() throws Exception {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:shard-" + UUID.randomUUID());
+        ShardedTransactionRepository pooled = new ShardedTransactionRepository(
+                List.of(new JdbcTransactionShard(pool, 1, event -> { })));
+
+        pooled.destroy();
+
+        assertTrue(pool.isClosed());
+    }
+
+    private static JdbcDataSource dataSource() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:shard-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
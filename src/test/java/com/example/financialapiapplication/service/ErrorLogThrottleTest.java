@@ -0,0 +1,60 @@
+package com.example.financialapiapplication.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Test class for ErrorLogThrottle, driven by a manual clock.
+ */
+class ErrorLogThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final ErrorLogThrottle throttle = new ErrorLogThrottle(Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void testTryAcquire_LogsOncePerIntervalAndReportsSuppressedCount() {
+        assertEquals(0, throttle.tryAcquire("Timeout"));
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire("Timeout"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire("Timeout"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, throttle.tryAcquire("Timeout"));
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire("Timeout"));
+        assertEquals(Map.of("Timeout", 5L), throttle.getCounts());
+    }
+
+    @Test
+    void testTryAcquire_EachTypeHasItsOwnWindow() {
+        assertEquals(0, throttle.tryAcquire("WebClientResponseException:500"));
+        assertEquals(0, throttle.tryAcquire("WebClientResponseException:404"));
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire("WebClientResponseException:500"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(1, throttle.tryAcquire("WebClientResponseException:500"));
+        assertEquals(0, throttle.tryAcquire("WebClientResponseException:404"));
+    }
+
+    @Test
+    void testTryAcquire_TypesBeyondTheLimitAreAlwaysLoggedAndNotTracked() {
+        for (int i = 0; i < ErrorLogThrottle.MAX_TRACKED_TYPES; i++) {
+            throttle.tryAcquire("type-" + i);
+        }
+
+        assertEquals(0, throttle.tryAcquire("overflow"));
+        assertEquals(0, throttle.tryAcquire("overflow"));
+        assertFalse(throttle.getCounts().containsKey("overflow"));
+        assertEquals(ErrorLogThrottle.MAX_TRACKED_TYPES, throttle.getCounts().size());
+
+        // Types tracked before the limit keep being throttled
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire("type-0"));
+    }
+}
@@ -1,28 +1,40 @@
 package com.example.financialapiapplication.service;
 
 import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.PaymentEnrichment;
 import com.example.financialapiapplication.dto.TransactionFilterRequest;
-import com.example.financialapiapplication.model.FinancialTransaction;
-import com.example.financialapiapplication.repository.FinancialTransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -33,7 +45,7 @@ import static org.mockito.Mockito.when;
 class FinancialTransactionServiceTest {
     
     @Mock
-    private FinancialTransactionRepository repository;
+    private TransactionQueryService queryService;
     
     @Mock
     private PaymentService paymentService;
@@ -41,28 +53,30 @@ class FinancialTransactionServiceTest {
     @Mock
     private HateoasLinkService hateoasLinkService;
     
-    @InjectMocks
+    @Mock
+    private ObjectProvider<PaymentSnapshotStore> snapshotStores;
+    
+    @Mock
+    private PaymentSnapshotStore snapshotStore;
+    
     private FinancialTransactionService service;
     
-    private FinancialTransaction testTransaction;
-    private Payment testPayment;
+    private Payment testTransaction;
+    private PaymentEnrichment testPayment;
     private TransactionFilterRequest testRequest;
     
     @BeforeEach
     void setUp() {
+        service = new FinancialTransactionService(queryService, paymentService, hateoasLinkService,
+                snapshotStores, Duration.ofMillis(200));
+        
         // Setup test data
-        testTransaction = new FinancialTransaction(
+        testTransaction = new Payment(
                 "PAY001", "USER001", "PAYMENT_SERVICE", "COMPLETED",
-                "REF001", new BigDecimal("100.50"), LocalDateTime.now()
+                "REF001", new BigDecimal("100.50"), LocalDateTime.now(), LocalDateTime.now()
         );
         
-        testPayment = new Payment();
-        testPayment.setId("PAY001");
-        testPayment.setUserId("USER001");
-        testPayment.setService("PAYMENT_SERVICE");
-        testPayment.setStatus("COMPLETED");
-        testPayment.setReference("REF001");
-        testPayment.setAmount(new BigDecimal("100.50"));
+        testPayment = new PaymentEnrichment("COMPLETED", LocalDateTime.now());
         
         testRequest = new TransactionFilterRequest();
         testRequest.setOffset(0);
@@ -73,12 +87,10 @@ class FinancialTransactionServiceTest {
     @Test
     void testGetTransactionsWithFilters_Success() {
         // Arrange
-        List<FinancialTransaction> transactions = Arrays.asList(testTransaction);
-        Page<FinancialTransaction> page = new PageImpl<>(transactions, PageRequest.of(0, 10), 1);
+        List<Payment> transactions = Arrays.asList(testTransaction);
+        Page<Payment> page = new PageImpl<>(transactions, PageRequest.of(0, 10), 1);
         
-        when(repository.findTransactionsWithFilters(
-                any(LocalDateTime.class), any(LocalDateTime.class), anyString(),
-                anyString(), anyString(), anyString(), any(Pageable.class)))
+        when(queryService.findPayments(any(TransactionFilterRequest.class), any(Pageable.class)))
                 .thenReturn(page);
         
         when(paymentService.retrievePayment(anyString()))
@@ -92,7 +104,7 @@ class FinancialTransactionServiceTest {
                 .expectNextMatches(response -> {
                     return response.getData() != null && 
                            response.getData().size() == 1 &&
-                           response.getData().get(0).getId().equals("PAY001");
+                           response.getData().get(0).id().equals("PAY001");
                 })
                 .verifyComplete();
     }
@@ -100,11 +112,9 @@ class FinancialTransactionServiceTest {
     @Test
     void testGetTransactionsWithFilters_EmptyResult() {
         // Arrange
-        Page<FinancialTransaction> emptyPage = new PageImpl<>(Arrays.asList(), PageRequest.of(0, 10), 0);
+        Page<Payment> emptyPage = new PageImpl<>(Arrays.asList(), PageRequest.of(0, 10), 0);
         
-        when(repository.findTransactionsWithFilters(
-                any(LocalDateTime.class), any(LocalDateTime.class), anyString(),
-                anyString(), anyString(), anyString(), any(Pageable.class)))
+        when(queryService.findPayments(any(TransactionFilterRequest.class), any(Pageable.class)))
                 .thenReturn(emptyPage);
         
         when(hateoasLinkService.createLinks(any(), any()))
@@ -130,12 +140,10 @@ class FinancialTransactionServiceTest {
         fullRequest.setOffset(0);
         fullRequest.setLimit(5);
         
-        List<FinancialTransaction> transactions = Arrays.asList(testTransaction);
-        Page<FinancialTransaction> page = new PageImpl<>(transactions, PageRequest.of(0, 5), 1);
+        List<Payment> transactions = Arrays.asList(testTransaction);
+        Page<Payment> page = new PageImpl<>(transactions, PageRequest.of(0, 5), 1);
         
-        when(repository.findTransactionsWithFilters(
-                any(LocalDateTime.class), any(LocalDateTime.class), anyString(),
-                anyString(), anyString(), anyString(), any(Pageable.class)))
+        when(queryService.findPayments(any(TransactionFilterRequest.class), any(Pageable.class)))
                 .thenReturn(page);
         
         when(paymentService.retrievePayment(anyString()))
@@ -150,4 +158,100 @@ class FinancialTransactionServiceTest {
                         response.getData() != null && response.getData().size() == 1)
                 .verifyComplete();
     }
-} 
\ No newline at end of file
+    
+    @Test
+    void testGetTransactionsWithFilters_RequestsOnlyBackendFieldsAndMergesThem() {
+        // Arrange: a real PaymentService whose backend answers with more than was asked for
+        List<URI> requested = new ArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://payments")
+                .exchangeFunction(request -> {
+                    requested.add(request.url());
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"status\":\"FAILED\",\"updatedAt\":\"2024-01-15T12:00:00\",\"amount\":999}")
+                            .build());
+                })
+                .build();
+        service = new FinancialTransactionService(queryService, new PaymentService(webClient), hateoasLinkService,
+                snapshotStores, Duration.ofSeconds(5));
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        Payment stored = new Payment(
+                "PAY001", "USER001", "PAYMENT_SERVICE", "PENDING",
+                "REF001", new BigDecimal("100.50"), createdAt, createdAt
+        );
+        
+        when(queryService.findPayments(any(TransactionFilterRequest.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(stored), PageRequest.of(0, 10), 1));
+        when(hateoasLinkService.createLinks(any(), any()))
+                .thenReturn(Arrays.asList());
+        
+        // Act & Assert: status and updatedAt come from the backend, everything else from the table
+        StepVerifier.create(service.getTransactionsWithFilters(testRequest))
+                .expectNextMatches(response -> response.getData().equals(List.of(new Payment(
+                        "PAY001", "USER001", "PAYMENT_SERVICE", "FAILED",
+                        "REF001", new BigDecimal("100.50"), createdAt, LocalDateTime.of(2024, 1, 15, 12, 0)))))
+                .verifyComplete();
+        assertEquals(List.of(URI.create("http://payments/payments/PAY001?fields=status,updatedAt")), requested);
+    }
+    
+    @Test
+    void testGetTransactionsWithFilters_FreshSnapshotSkipsBackendLookup() {
+        // Arrange
+        when(snapshotStores.getIfAvailable()).thenReturn(snapshotStore);
+        service = new FinancialTransactionService(queryService, paymentService, hateoasLinkService,
+                snapshotStores, Duration.ofMillis(200));
+        Payment pendingTransaction = new Payment(
+                "PAY002", "USER001", "PAYMENT_SERVICE", "PENDING",
+                "REF002", new BigDecimal("20.00"), LocalDateTime.now(), LocalDateTime.now()
+        );
+        Page<Payment> page = new PageImpl<>(Arrays.asList(testTransaction, pendingTransaction), PageRequest.of(0, 10), 2);
+        PaymentEnrichment backendResult = new PaymentEnrichment("COMPLETED", LocalDateTime.now());
+        
+        when(queryService.findPayments(any(TransactionFilterRequest.class), any(Pageable.class)))
+                .thenReturn(page);
+        when(snapshotStore.findFresh(List.of("PAY001", "PAY002")))
+                .thenReturn(Map.of("PAY001", new PaymentEnrichment("FAILED", null)));
+        when(paymentService.retrievePayment("PAY002"))
+                .thenReturn(Mono.just(backendResult));
+        when(hateoasLinkService.createLinks(any(), any()))
+                .thenReturn(Arrays.asList());
+        
+        // Act & Assert: PAY001 comes from its snapshot, PAY002 from the backend and is recorded
+        StepVerifier.create(service.getTransactionsWithFilters(testRequest))
+                .expectNextMatches(response -> "FAILED".equals(response.getData().get(0).status())
+                        && "COMPLETED".equals(response.getData().get(1).status()))
+                .verifyComplete();
+        verify(paymentService, never()).retrievePayment("PAY001");
+        verify(snapshotStore).record("PAY002", backendResult);
+    }
+    
+    @Test
+    void testStreamTransactionsWithFilters_SlowLookupFallsBackAndLinksComeLast() {
+        // Arrange
+        Payment slowTransaction = new Payment(
+                "PAY002", "USER001", "PAYMENT_SERVICE", "PENDING",
+                "REF002", new BigDecimal("20.00"), LocalDateTime.now(), LocalDateTime.now()
+        );
+        Page<Payment> page = new PageImpl<>(Arrays.asList(slowTransaction, testTransaction), PageRequest.of(0, 10), 2);
+        
+        when(queryService.findPayments(any(TransactionFilterRequest.class), any(Pageable.class)))
+                .thenReturn(page);
+        
+        when(paymentService.retrievePayment("PAY001"))
+                .thenReturn(Mono.just(testPayment));
+        when(paymentService.retrievePayment("PAY002"))
+                .thenReturn(Mono.<PaymentEnrichment>never());
+        
+        when(hateoasLinkService.createLinks(any(), any()))
+                .thenReturn(Arrays.asList());
+        
+        // Act & Assert: the fast row arrives first, the slow one after its deadline with its own data
+        StepVerifier.create(service.streamTransactionsWithFilters(testRequest))
+                .expectNextMatches(event -> "payment".equals(event.event()) && "1".equals(event.id()))
+                .expectNextMatches(event -> "payment".equals(event.event()) && "0".equals(event.id())
+                        && "PENDING".equals(((Payment) event.data()).status()))
+                .expectNextMatches(event -> "links".equals(event.event()))
+                .verifyComplete();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.dto.PaymentEnrichment;
+import com.example.financialapiapplication.model.PaymentSnapshot;
+import com.example.financialapiapplication.repository.PaymentSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSnapshotStoreTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private PaymentSnapshotRepository repository;
+
+    private SimpleMeterRegistry registry;
+    private PaymentSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        store = new PaymentSnapshotStore(repository, List.of("COMPLETED", "FAILED"), Duration.ofHours(24),
+                Duration.ofSeconds(30), 2, registry, CLOCK);
+    }
+
+    @Test
+    void testFindFresh_AppliesStalenessPolicy() {
+        List<String> ids = List.of("TERMINAL", "TERMINAL_STALE", "PENDING", "PENDING_STALE", "UNKNOWN", "MISSING");
+        when(repository.findAllById(ids)).thenReturn(List.of(
+                snapshot("TERMINAL", "COMPLETED", NOW.minusHours(23)),
+                snapshot("TERMINAL_STALE", "FAILED", NOW.minusHours(25)),
+                snapshot("PENDING", "PENDING", NOW.minusSeconds(10)),
+                snapshot("PENDING_STALE", "PENDING", NOW.minusSeconds(31)),
+                snapshot("UNKNOWN", null, NOW.minusSeconds(10))));
+
+        Map<String, PaymentEnrichment> fresh = store.findFresh(ids);
+
+        assertEquals(Set.of("TERMINAL", "PENDING", "UNKNOWN"), fresh.keySet());
+        assertEquals("COMPLETED", fresh.get("TERMINAL").status());
+        assertEquals(3.0, registry.counter("financial.snapshots.reads", "result", "hit").count());
+        assertEquals(2.0, registry.counter("financial.snapshots.reads", "result", "stale").count());
+        assertEquals(1.0, registry.counter("financial.snapshots.reads", "result", "miss").count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlushPendingWrites_KeepsLatestResultAndBoundsBuffer() {
+        store.record("PAY001", new PaymentEnrichment("PENDING", null));
+        store.record("PAY001", new PaymentEnrichment("COMPLETED", null));
+        store.record("PAY002", new PaymentEnrichment("FAILED", null));
+        store.record("PAY003", new PaymentEnrichment("FAILED", null));
+
+        assertEquals(2, store.flushPendingWrites());
+
+        ArgumentCaptor<List<PaymentSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        Map<String, String> statuses = new HashMap<>();
+        saved.getValue().forEach(snapshot -> statuses.put(snapshot.getPaymentId(), snapshot.getStatus()));
+        assertEquals(Map.of("PAY001", "COMPLETED", "PAY002", "FAILED"), statuses);
+        assertEquals(NOW, saved.getValue().get(0).getSyncedAt());
+    }
+
+    private static PaymentSnapshot snapshot(String paymentId, String status, LocalDateTime syncedAt) {
+        return new PaymentSnapshot(paymentId, status != null ? new PaymentEnrichment(status, null) : null, syncedAt);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.config.PaymentSnapshotProperties;
+import com.example.financialapiapplication.dto.PaymentEnrichment;
+import com.example.financialapiapplication.model.FinancialTransaction;
+import com.example.financialapiapplication.model.PaymentSnapshot;
+import com.example.financialapiapplication.repository.FinancialTransactionRepository;
+import com.example.financialapiapplication.repository.PaymentSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for PaymentSnapshotSyncJob against the real snapshot queries.
+ */
+@DataJpaTest
+class PaymentSnapshotSyncJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Autowired
+    private FinancialTransactionRepository transactionRepository;
+
+    @Autowired
+    private PaymentSnapshotRepository snapshotRepository;
+
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final List<String> lookedUp = Collections.synchronizedList(new ArrayList<>());
+    private SimpleMeterRegistry registry;
+    private PaymentSnapshotSyncJob job;
+
+    @BeforeEach
+    void setUp() {
+        snapshotRepository.deleteAll();
+        transactionRepository.deleteAll();
+        registry = new SimpleMeterRegistry();
+        PaymentSnapshotProperties properties = new PaymentSnapshotProperties();
+        properties.setBatchSize(2);
+        properties.setSyncConcurrency(1);
+        PaymentSnapshotStore store = new PaymentSnapshotStore(snapshotRepository, properties.getTerminalStatuses(),
+                Duration.ofHours(24), Duration.ofSeconds(30), 100, registry, CLOCK);
+        job = new PaymentSnapshotSyncJob(store, snapshotRepository, paymentService, properties, registry);
+        when(paymentService.retrievePayment(anyString())).thenAnswer(invocation -> {
+            String paymentId = invocation.getArgument(0);
+            lookedUp.add(paymentId);
+            return Mono.just(new PaymentEnrichment("COMPLETED", NOW));
+        });
+    }
+
+    @Test
+    void testSync_LooksUpUnsyncedTransactionsBeforeDueSnapshots() {
+        snapshotRepository.save(snapshot("DUE", "PENDING", NOW.minusMinutes(5)));
+        transaction("PAY1");
+        transaction("PAY2");
+        transaction("PAY3");
+
+        job.sync();
+        assertEquals(List.of("PAY1", "PAY2"), lookedUp);
+
+        lookedUp.clear();
+        job.sync();
+        assertEquals(List.of("PAY3", "DUE"), lookedUp);
+
+        // Everything is synced and fresh, and the high-water mark is past every transaction
+        lookedUp.clear();
+        job.sync();
+        assertEquals(List.of(), lookedUp);
+    }
+
+    @Test
+    void testSync_RefreshesDueSnapshotsLeastRecentlySyncedFirst() {
+        snapshotRepository.save(snapshot("NEWER", "PENDING", NOW.minusMinutes(1)));
+        snapshotRepository.save(snapshot("STALE", "COMPLETED", NOW.minusHours(25)));
+        snapshotRepository.save(snapshot("OLDER", "PENDING", NOW.minusMinutes(10)));
+        snapshotRepository.save(snapshot("FRESH", "COMPLETED", NOW.minusHours(1)));
+
+        job.sync();
+
+        assertEquals(List.of("STALE", "OLDER"), lookedUp);
+    }
+
+    @Test
+    void testSync_StoresEmptySnapshotForUnknownPaymentButKeepsExistingOnes() {
+        when(paymentService.retrievePayment("UNKNOWN")).thenReturn(Mono.empty());
+        when(paymentService.retrievePayment("KNOWN")).thenReturn(Mono.empty());
+        snapshotRepository.save(snapshot("KNOWN", "PENDING", NOW.minusMinutes(5)));
+        transaction("UNKNOWN");
+
+        job.sync();
+
+        PaymentSnapshot unknown = snapshotRepository.findById("UNKNOWN").orElseThrow();
+        assertNull(unknown.getStatus());
+        assertEquals(NOW, unknown.getSyncedAt());
+        PaymentSnapshot known = snapshotRepository.findById("KNOWN").orElseThrow();
+        assertEquals("PENDING", known.getStatus());
+        assertEquals(NOW.minusMinutes(5), known.getSyncedAt());
+    }
+
+    @Test
+    void testSync_RetriesFailedLookupsOfUnsyncedTransactions() {
+        when(paymentService.retrievePayment("PAY1"))
+                .thenReturn(Mono.error(new IllegalStateException("backend down")))
+                .thenReturn(Mono.just(new PaymentEnrichment("FAILED", NOW)));
+        transaction("PAY1");
+        transaction("PAY2");
+
+        job.sync();
+        assertEquals(List.of("PAY2"), snapshotRepository.findAll().stream().map(PaymentSnapshot::getPaymentId).toList());
+
+        job.sync();
+        assertEquals("FAILED", snapshotRepository.findById("PAY1").orElseThrow().getStatus());
+    }
+
+    @Test
+    void testUpdateBacklog_CountsPaymentsWithoutSnapshot() {
+        transaction("PAY1");
+        transaction("PAY1");
+        transaction("PAY2");
+        snapshotRepository.save(snapshot("PAY2", "COMPLETED", NOW));
+
+        job.updateBacklog();
+
+        assertEquals(1.0, registry.get("financial.snapshots.backlog").gauge().value());
+    }
+
+    private void transaction(String paymentId) {
+        transactionRepository.save(new FinancialTransaction(paymentId, "USER001", "PAYMENT_SERVICE", "PENDING",
+                "REF-" + paymentId, new BigDecimal("10.00"), NOW.minusHours(1)));
+    }
+
+    private static PaymentSnapshot snapshot(String paymentId, String status, LocalDateTime syncedAt) {
+        return new PaymentSnapshot(paymentId, new PaymentEnrichment(status, NOW.minusHours(2)), syncedAt);
+    }
+}
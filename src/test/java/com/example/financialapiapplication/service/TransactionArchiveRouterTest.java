@@ -0,0 +1,170 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.model.TransactionRow;
+import com.example.financialapiapplication.repository.TransactionArchive;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for TransactionArchiveRouter, backed by a real archive in a temp directory.
+ */
+class TransactionArchiveRouterTest {
+
+    private static final Sort DATE_DESC = Sort.by(Sort.Direction.DESC, "transactionDate")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    @TempDir
+    Path archiveDirectory;
+
+    private TransactionArchive archive;
+    private TransactionArchiveRouter router;
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    // Hot table stand-in: two rows in June 2024, already in descending date order
+    private List<TransactionRow> hotRows = List.of(hot(11L, "HOT2", "40.00", LocalDateTime.of(2024, 6, 2, 10, 0)),
+            hot(10L, "HOT1", "30.00", LocalDateTime.of(2024, 6, 1, 10, 0)));
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        archive = new TransactionArchive(archiveDirectory, 4, objectMapper);
+        router = new TransactionArchiveRouter(archive);
+
+        try (TransactionArchive.SegmentWriter writer = archive.openSegment(YearMonth.of(2024, 1))) {
+            writer.append(archived(1L, "ARC1", "10.00", LocalDateTime.of(2024, 1, 5, 10, 0)));
+            writer.append(archived(2L, "ARC2", "20.00", LocalDateTime.of(2024, 1, 20, 10, 0)));
+            writer.commit();
+        }
+    }
+
+    @Test
+    void testNeedsArchive_PrunesRangesInsideHotWindow() {
+        TransactionFilterRequest recent = new TransactionFilterRequest();
+        recent.setDateFrom(LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertFalse(router.needsArchive(recent));
+
+        TransactionFilterRequest beforeArchive = new TransactionFilterRequest();
+        beforeArchive.setDateTo(LocalDateTime.of(2023, 12, 31, 0, 0));
+        assertFalse(router.needsArchive(beforeArchive));
+
+        // A missing dateFrom is open-ended, so it reaches back into archived months
+        assertTrue(router.needsArchive(new TransactionFilterRequest()));
+        assertTrue(router.needsArchive(since(FROM)));
+    }
+
+    @Test
+    void testFindPage_OpenEndedUserQueryIncludesArchivedMatches() {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setUserId("USER001");
+
+        assertTrue(router.needsArchive(request));
+        Page<Payment> page = router.findPage(request, PageRequest.of(0, 10, DATE_DESC), this::hotQuery);
+
+        assertEquals(List.of("HOT2", "HOT1", "ARC2", "ARC1"), page.getContent().stream().map(Payment::id).toList());
+        assertEquals(4, page.getTotalElements());
+
+        request.setUserId("USER002");
+        Page<Payment> none = router.findPage(request, PageRequest.of(0, 10, DATE_DESC),
+                pageable -> new PageImpl<>(List.of(), pageable, 0));
+        assertEquals(0, none.getTotalElements());
+    }
+
+    @Test
+    void testFindPage_DateSortContinuesFromHotRowsIntoArchive() {
+        Page<Payment> page = router.findPage(since(FROM), PageRequest.of(1, 2, DATE_DESC), this::hotQuery);
+
+        assertEquals(List.of("ARC2", "ARC1"), page.getContent().stream().map(Payment::id).toList());
+        assertEquals(4, page.getTotalElements());
+    }
+
+    @Test
+    void testFindPage_DateSortPlacesLateInsertsAmongArchivedRows() {
+        // Inserted into January after the month was archived, so it is still in the hot table
+        hotRows = List.of(hotRows.get(0), hotRows.get(1), hot(12L, "LATE", "50.00", LocalDateTime.of(2024, 1, 10, 10, 0)));
+
+        Page<Payment> page = router.findPage(since(FROM), PageRequest.of(0, 5, DATE_DESC), this::hotQuery);
+
+        assertEquals(List.of("HOT2", "HOT1", "ARC2", "LATE", "ARC1"), page.getContent().stream().map(Payment::id).toList());
+    }
+
+    @Test
+    void testFindPage_OtherSortMergesBothStores() {
+        Sort byAmount = Sort.by(Sort.Direction.ASC, "amount").and(Sort.by(Sort.Direction.ASC, "id"));
+        Function<Pageable, Page<TransactionRow>> hotByAmount = pageable ->
+                new PageImpl<>(List.of(hotRows.get(1), hotRows.get(0)), pageable, 2);
+
+        Page<Payment> page = router.findPage(since(FROM), PageRequest.of(0, 3, byAmount), hotByAmount);
+
+        assertEquals(List.of("ARC1", "ARC2", "HOT1"), page.getContent().stream().map(Payment::id).toList());
+        assertEquals(4, page.getTotalElements());
+    }
+
+    @Test
+    void testFindPage_FiltersArchivedRowsWhileStreaming() {
+        TransactionFilterRequest request = since(FROM);
+        request.setReference("REF2");
+        Function<Pageable, Page<TransactionRow>> noHotRows = pageable -> new PageImpl<>(List.of(), pageable, 0);
+
+        Page<Payment> page = router.findPage(request, PageRequest.of(0, 10, DATE_DESC), noHotRows);
+
+        assertEquals(List.of("ARC2"), page.getContent().stream().map(Payment::id).toList());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    @Test
+    void testForEachInRange_ReopenedArchiveStreamsMonthsLargerThanCache() {
+        TransactionArchive reopened = new TransactionArchive(archiveDirectory, 1, JsonMapper.builder().findAndAddModules().build());
+        List<TransactionRow> rows = new ArrayList<>();
+
+        reopened.forEachInRange(since(FROM), rows::add);
+        reopened.forEachInRange(since(FROM), rows::add);
+
+        assertEquals(4, rows.size());
+        assertEquals(YearMonth.of(2024, 1), reopened.getLatestArchivedMonth().orElseThrow());
+    }
+
+    private static TransactionFilterRequest since(LocalDateTime dateFrom) {
+        TransactionFilterRequest request = new TransactionFilterRequest();
+        request.setDateFrom(dateFrom);
+        return request;
+    }
+
+    private Page<TransactionRow> hotQuery(Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), hotRows.size());
+        int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), hotRows.size());
+        return new PageImpl<>(hotRows.subList(from, to), pageable, hotRows.size());
+    }
+
+    private static TransactionRow archived(long id, String paymentId, String amount, LocalDateTime date) {
+        return new TransactionRow(id, date, new Payment(paymentId, "USER001", "PAYMENT_SERVICE", "COMPLETED",
+                "REF" + id, new BigDecimal(amount), date, date));
+    }
+
+    private static TransactionRow hot(long id, String paymentId, String amount, LocalDateTime date) {
+        return new TransactionRow(id, date, new Payment(paymentId, "USER001", "PAYMENT_SERVICE", "COMPLETED",
+                "REF-" + paymentId, new BigDecimal(amount), date, date));
+    }
+}
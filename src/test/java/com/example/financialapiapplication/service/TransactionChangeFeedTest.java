@@ -0,0 +1,80 @@
+package com.example.financialapiapplication.service;
+
+import com.example.financialapiapplication.dto.Payment;
+import com.example.financialapiapplication.dto.TransactionFilterRequest;
+import com.example.financialapiapplication.event.TransactionChangedEvent;
+import com.example.financialapiapplication.event.TransactionChangedEvent.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for TransactionChangeFeed.
+ */
+class TransactionChangeFeedTest {
+
+    private TransactionChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TransactionChangeFeed(2);
+    }
+
+    @Test
+    void testSubscribe_OnlyMatchingChangesAreDelivered() {
+        TransactionFilterRequest filter = new TransactionFilterRequest();
+        filter.setUserId("USER001");
+        filter.setStatus("COMPLETED");
+
+        StepVerifier.create(feed.subscribe(filter))
+                .then(() -> {
+                    feed.onTransactionChanged(event(1L, "USER002", "COMPLETED"));
+                    feed.onTransactionChanged(event(2L, "USER001", "PENDING"));
+                    feed.onTransactionChanged(event(3L, "USER001", "COMPLETED"));
+                })
+                .expectNextMatches(event -> event.transactionId() == 3L)
+                .thenCancel()
+                .verify();
+
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void testSubscribe_UnfilteredSubscriberSeesEverything() {
+        StepVerifier.create(feed.subscribe(new TransactionFilterRequest()))
+                .then(() -> {
+                    feed.onTransactionChanged(event(1L, "USER001", "COMPLETED"));
+                    feed.onTransactionChanged(event(2L, "USER002", "FAILED"));
+                })
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testSubscribe_SlowSubscriberIsTerminatedWhenBufferIsFull() {
+        StepVerifier.create(feed.subscribe(new TransactionFilterRequest()), 0)
+                .then(() -> {
+                    feed.onTransactionChanged(event(1L, "USER001", "COMPLETED"));
+                    feed.onTransactionChanged(event(2L, "USER001", "COMPLETED"));
+                    feed.onTransactionChanged(event(3L, "USER001", "COMPLETED"));
+                })
+                .thenRequest(3)
+                .expectNextCount(2)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    private static TransactionChangedEvent event(long id, String userId, String status) {
+        Payment payment = new Payment("PAY" + id, userId, "PAYMENT_SERVICE", status,
+                "REF" + id, new BigDecimal("10.00"), LocalDateTime.now(), LocalDateTime.now());
+        return new TransactionChangedEvent(ChangeType.INSERT, 0, id, LocalDateTime.now(), payment);
+    }
+}
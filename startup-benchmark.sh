@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Startup benchmark: time from JVM launch to the first successful API response, per startup mode.
+#
+# Usage: ./startup-benchmark.sh            (builds with -Pstartup first)
+#        SKIP_BUILD=1 RUNS=5 ./startup-benchmark.sh
+#        MVN="sh mvnw" ./startup-benchmark.sh
+#
+# Modes:
+#   jvm           plain executable jar
+#   lazy          plain jar with the "lazy" profile (lazy bean initialization)
+#   cds           extracted jar with the AppCDS archive
+#   aot-cds       extracted jar with the AppCDS archive and Spring AOT
+#   aot-cds-lazy  all of the above
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+MVN=${MVN:-mvn}
+RUNS=${RUNS:-3}
+PORT=${PORT:-8080}
+URL="http://localhost:${PORT}/api/transactions"
+JAR_NAME=FinancialApiApplication-0.0.1-SNAPSHOT.jar
+STARTUP_DIR=target/startup
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+    $MVN -q -B -Pstartup -DskipTests package
+fi
+
+if [ ! -f "${STARTUP_DIR}/application.jsa" ]; then
+    echo "Missing ${STARTUP_DIR}/application.jsa; build with: mvn -Pstartup -DskipTests package" >&2
+    exit 1
+fi
+
+# Prints the milliseconds until the first 200 from the API, then stops the application.
+time_to_first_request() {
+    local dir=$1
+    shift
+    local start end pid
+    start=$(date +%s%N)
+    (cd "$dir" && exec java "$@" -jar "$JAR_NAME" --server.port="$PORT" > /dev/null 2>&1) &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "application exited during startup" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+run_mode() {
+    local mode=$1 dir=$2
+    shift 2
+    local samples=()
+    for _ in $(seq "$RUNS"); do
+        samples+=("$(time_to_first_request "$dir" "$@")")
+    done
+    local sorted median
+    sorted=$(printf '%s\n' "${samples[@]}" | sort -n)
+    median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+    printf '%-14s median %6d ms   runs: %s\n' "$mode" "$median" "${samples[*]}"
+}
+
+echo "Time to first request (${RUNS} runs per mode)"
+run_mode jvm          target
+run_mode lazy         target              -Dspring.profiles.active=lazy,seed
+run_mode cds          "$STARTUP_DIR"      -XX:SharedArchiveFile=application.jsa
+run_mode aot-cds      "$STARTUP_DIR"      -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true
+run_mode aot-cds-lazy "$STARTUP_DIR"      -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+                                          -Dspring.profiles.active=lazy,seed